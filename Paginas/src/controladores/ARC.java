@@ -0,0 +1,291 @@
+package controladores;
+
+import modelos.Computer;
+import modelos.Page;
+import java.util.List;
+
+/**
+ * Algoritmo ARC (Adaptive Replacement Cache)
+ * Reparte la RAM entre páginas vistas una vez (recencia) y páginas vistas
+ * varias veces (frecuencia), y aprende solo cuánto darle a cada lado.
+ *
+ * Funcionamiento:
+ * - T1: páginas residentes que se han usado una sola vez desde que entraron
+ * - T2: páginas residentes usadas al menos dos veces
+ * - B1 / B2: "fantasmas", ids de páginas que salieron de T1 / T2
+ * - p: tamaño objetivo de T1. Un fallo sobre una página de B1 lo sube
+ *   (T1 era muy chico), uno sobre B2 lo baja
+ * - La víctima es la menos reciente de T1 si T1 pasa de p, si no la
+ *   menos reciente de T2
+ * Las páginas que se leen una sola vez (un 'new' grande que no se vuelve a
+ * usar) se quedan en T1 y no sacan de la RAM a las que sí se usan.
+ *
+ * Implemntación:
+ * - T1 y T2 son listas intrusivas por marco (FrameList), O(1)
+ * - B1 y B2 son colas de ids (GhostQueue): no mantienen vivos los Page
+ *   que ya se fueron al disco
+ * - La MMU avisa con onMiss qué página viene antes de pedir la víctima,
+ *   así p se adapta antes de elegir, como en el algoritmo original
+ * - Un delete purga los fantasmas de sus páginas en onFree (los ids se
+ *   reutilizan)
+ */
+
+public class ARC implements PageReplacementAlgorithm {
+
+    private static final int NONE = 0;
+    private static final int FROM_B1 = 1;
+    private static final int FROM_B2 = 2;
+
+    /** Residentes vistas una vez (inicio = menos reciente). */
+    private final FrameList t1;
+    /** Residentes vistas más de una vez (inicio = menos reciente). */
+    private final FrameList t2;
+    /** Fantasmas de T1. */
+    private final GhostQueue b1;
+    /** Fantasmas de T2. */
+    private final GhostQueue b2;
+
+    /** Tamaño objetivo de T1. */
+    private int p;
+
+    /** Cantidad de marcos (c en el artículo original). */
+    private int capacity;
+    /** true si la capacidad viene de la computadora y no se estima. */
+    private boolean capacityFixed;
+
+    // --- Fallo en curso (entre onMiss y onLoad) ---
+    private int pendingId;
+    private int pendingSource;
+    /** La víctima de este fallo sale de T1 sin dejar fantasma. */
+    private boolean evictWithoutGhost;
+
+    public ARC() {
+        this.t1 = new FrameList();
+        this.t2 = new FrameList();
+        this.b1 = new GhostQueue();
+        this.b2 = new GhostQueue();
+        reset();
+    }
+
+    @Override
+    public void attach(Computer computer) {
+        this.capacity = computer.getAmountOfPagesInRAM();
+        this.capacityFixed = true;
+    }
+
+    @Override
+    public Page selectPageToReplace(List<Page> pagesInRAM) {
+        if (pagesInRAM == null || pagesInRAM.isEmpty()) {
+            return null;
+        }
+
+        if (t1.isEmpty() && t2.isEmpty()) {
+            // No se avisó ninguna carga: cualquier página sirve
+            for (Page page : pagesInRAM) {
+                if (page != null) {
+                    return page;
+                }
+            }
+            return null;
+        }
+
+        int t1Size = t1.size();
+        boolean fromT1 = t1Size >= 1
+                && (evictWithoutGhost || t1Size > p || (pendingSource == FROM_B2 && t1Size == p));
+        if (fromT1 || t2.isEmpty()) {
+            return t1.getPage(t1.first());
+        }
+        return t2.getPage(t2.first());
+    }
+
+    @Override
+    public void onMiss(Page page) {
+        if (page == null) return;
+        classify(page.getId());
+    }
+
+    @Override
+    public void onLoad(Page page) {
+        if (page == null || page.getIndexOfPage() < 0) return;
+        int frame = page.getIndexOfPage();
+        if (pendingId != page.getId()) {
+            classify(page.getId()); // No se avisó el fallo
+        }
+        // El marco no puede quedar en las dos listas
+        if (t1.getPage(frame) != null) t1.remove(frame);
+        if (t2.getPage(frame) != null) t2.remove(frame);
+
+        // Si ya era fantasma, vuelve como página frecuente
+        if (pendingSource == NONE) {
+            t1.addLast(frame, page);
+        } else {
+            t2.addLast(frame, page);
+        }
+
+        if (!capacityFixed) {
+            capacity = Math.max(capacity, t1.size() + t2.size());
+        }
+        pendingId = -1;
+        pendingSource = NONE;
+        evictWithoutGhost = false;
+    }
+
+    @Override
+    public void onUse(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (t1.getPage(frame) == page) {
+            // Segundo uso: pasa de T1 a T2
+            t1.remove(frame);
+            t2.addLast(frame, page);
+        } else if (t2.getPage(frame) == page) {
+            t2.moveToLast(frame);
+        } else {
+            onLoad(page); // No se avisó su carga
+        }
+    }
+
+    @Override
+    public void onEvict(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (t1.getPage(frame) == page) {
+            t1.remove(frame);
+            if (evictWithoutGhost) {
+                evictWithoutGhost = false;
+            } else {
+                b1.addLast(page.getId());
+            }
+        } else if (t2.getPage(frame) == page) {
+            t2.remove(frame);
+            b2.addLast(page.getId());
+        } else {
+            return;
+        }
+
+        // El historial nunca pasa de c en L1 ni de 2c en total
+        while (t1.size() + b1.size() > capacity && !b1.isEmpty()) {
+            b1.removeFirst();
+        }
+        while (t1.size() + t2.size() + b1.size() + b2.size() > 2 * capacity
+                && !(b1.isEmpty() && b2.isEmpty())) {
+            if (!b2.isEmpty()) b2.removeFirst(); else b1.removeFirst();
+        }
+    }
+
+    @Override
+    public void onFree(int ptr, List<Page> pages) {
+        // Los ids de estas páginas se van a reutilizar: olvidar sus fantasmas
+        for (Page page : pages) {
+            b1.remove(page.getId());
+            b2.remove(page.getId());
+        }
+    }
+
+    /**
+     * Casos II, III y IV de ARC para la página que viene: adapta p si era
+     * fantasma, o recorta el historial si es nueva.
+     */
+    private void classify(int id) {
+        pendingId = id;
+        evictWithoutGhost = false;
+        if (b1.contains(id)) {
+            // Fallo en B1: T1 se quedó corto
+            p = Math.min(capacity, p + Math.max(b2.size() / b1.size(), 1));
+            b1.remove(id);
+            pendingSource = FROM_B1;
+        } else if (b2.contains(id)) {
+            // Fallo en B2: T2 se quedó corto
+            p = Math.max(0, p - Math.max(b1.size() / b2.size(), 1));
+            b2.remove(id);
+            pendingSource = FROM_B2;
+        } else {
+            pendingSource = NONE;
+            int l1 = t1.size() + b1.size();
+            if (l1 >= capacity) {
+                if (t1.size() < capacity) {
+                    b1.removeFirst();
+                } else {
+                    evictWithoutGhost = true;
+                }
+            } else if (l1 + t2.size() + b2.size() >= 2 * capacity) {
+                b2.removeFirst();
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        t1.clear();
+        t2.clear();
+        b1.clear();
+        b2.clear();
+        this.p = 0;
+        if (!capacityFixed) {
+            this.capacity = 0;
+        }
+        this.pendingId = -1;
+        this.pendingSource = NONE;
+        this.evictWithoutGhost = false;
+    }
+
+    /**
+     * @return el tamaño objetivo de T1 (p).
+     */
+    public int getTarget() {
+        return p;
+    }
+
+    public int getT1Size() {
+        return t1.size();
+    }
+
+    public int getT2Size() {
+        return t2.size();
+    }
+
+    public int getB1Size() {
+        return b1.size();
+    }
+
+    public int getB2Size() {
+        return b2.size();
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "ARC";
+    }
+
+    @Override
+    public String getDetailedState() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== ARC - Estado Actual ===\n");
+        sb.append("Marcos (c): ").append(capacity).append("\n");
+        sb.append("Objetivo de T1 (p): ").append(p).append("\n");
+        sb.append(String.format("T1=%d T2=%d B1=%d B2=%d\n", t1.size(), t2.size(), b1.size(), b2.size()));
+
+        if (!t1.isEmpty()) {
+            sb.append("\nT1 (menos reciente primero):");
+            for (int frame = t1.first(); frame != FrameList.NIL; frame = t1.next(frame)) {
+                sb.append(" Page ").append(t1.getPage(frame).getId());
+            }
+            sb.append("\n");
+        }
+        if (!t2.isEmpty()) {
+            sb.append("T2 (menos reciente primero):");
+            for (int frame = t2.first(); frame != FrameList.NIL; frame = t2.next(frame)) {
+                sb.append(" Page ").append(t2.getPage(frame).getId());
+            }
+            sb.append("\n");
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ARC[T1=%d, T2=%d, B1=%d, B2=%d, p=%d]",
+            t1.size(), t2.size(), b1.size(), b2.size(), p);
+    }
+}
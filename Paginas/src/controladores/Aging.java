@@ -0,0 +1,259 @@
+package controladores;
+
+import modelos.Instruction;
+import modelos.Page;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Algoritmo Aging (NFU con registros de desplazamiento)
+ * Aproximación de LRU: cada marco tiene un registro de "edad" y un bit
+ * de referencia.
+ *
+ * Funcionamiento:
+ * - Usar una página solo prende su bit de referencia
+ * - Cada tick (cada N instrucciones ejecutadas por la MMU) todos los
+ *   registros se corren un bit a la derecha y el bit de referencia entra
+ *   por la izquierda; luego los bits se apagan
+ * - La víctima es la página con el registro más chico (la que menos se
+ *   usó en los últimos ticks, pesando más los recientes). Empates: el
+ *   marco más bajo
+ * - Una página recién cargada empieza con el bit más alto prendido, como
+ *   si la hubieran usado en el último tick
+ *
+ * Implemntación:
+ * - Registros de 8 a 64 bits en un long[] por marco. Se guardan con el bit
+ *   de signo invertido para que el orden con signo sea el orden sin signo,
+ *   y los marcos libres valen Long.MAX_VALUE: buscar el mínimo es un
+ *   recorrido simple del arreglo, sin ramas por marco
+ * - Los bits de referencia son un bitset (long[]) como en SC
+ */
+
+public class Aging implements PageReplacementAlgorithm {
+
+    public static final int DEFAULT_BITS = 8;
+    public static final int DEFAULT_TICK_INTERVAL = 4;
+
+    private static final int INITIAL_FRAMES = 64;
+    /** Valor guardado en los marcos libres (mayor que cualquier registro). */
+    private static final long FREE = Long.MAX_VALUE;
+
+    /** Registro de cada marco, con el bit de signo invertido. */
+    private long[] ages;
+    private long[] occupiedBits;
+    private long[] referenceBits;
+    private Page[] pages;
+    private int size;
+
+    private final int bits;
+    /** El bit por donde entra la referencia en cada tick. */
+    private final long topBit;
+
+    /** Instrucciones entre ticks. */
+    private final int tickInterval;
+    private int instructionsSinceTick;
+    private long ticks;
+
+    public Aging() {
+        this(DEFAULT_BITS, DEFAULT_TICK_INTERVAL);
+    }
+
+    /**
+     * @param bits ancho del registro, de 8 a 64.
+     * @param tickInterval cada cuántas instrucciones se corren los registros.
+     */
+    public Aging(int bits, int tickInterval) {
+        if (bits < 8 || bits > 64) {
+            throw new IllegalArgumentException("El registro debe tener de 8 a 64 bits: " + bits);
+        }
+        if (tickInterval < 1) {
+            throw new IllegalArgumentException("Intervalo de tick inválido: " + tickInterval);
+        }
+        this.bits = bits;
+        this.topBit = 1L << (bits - 1);
+        this.tickInterval = tickInterval;
+        this.ages = new long[INITIAL_FRAMES];
+        this.occupiedBits = new long[INITIAL_FRAMES >>> 6];
+        this.referenceBits = new long[INITIAL_FRAMES >>> 6];
+        this.pages = new Page[INITIAL_FRAMES];
+        reset();
+    }
+
+    @Override
+    public Page selectPageToReplace(List<Page> pagesInRAM) {
+        if (pagesInRAM == null || pagesInRAM.isEmpty()) {
+            return null;
+        }
+
+        if (size == 0) {
+            // No se avisó ninguna carga: cualquier página sirve
+            for (Page page : pagesInRAM) {
+                if (page != null) {
+                    return page;
+                }
+            }
+            return null;
+        }
+
+        // Primero el mínimo (reducción simple), luego el primer marco con él
+        long min = FREE;
+        for (long age : ages) {
+            min = Math.min(min, age);
+        }
+        for (int frame = 0; frame < ages.length; frame++) {
+            if (ages[frame] == min && is(occupiedBits, frame)) {
+                return pages[frame];
+            }
+        }
+        // Todas las páginas tienen el registro lleno (igual al de un libre)
+        for (int frame = 0; frame < pages.length; frame++) {
+            if (is(occupiedBits, frame)) {
+                return pages[frame];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void onLoad(Page page) {
+        if (page == null || page.getIndexOfPage() < 0) return;
+        int frame = page.getIndexOfPage();
+        ensureCapacity(frame);
+        if (!is(occupiedBits, frame)) {
+            set(occupiedBits, frame);
+            size++;
+        }
+        clear(referenceBits, frame);
+        ages[frame] = topBit ^ Long.MIN_VALUE;
+        pages[frame] = page;
+    }
+
+    @Override
+    public void onUse(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (frame < 0 || frame >= pages.length || pages[frame] != page) return;
+        set(referenceBits, frame);
+    }
+
+    @Override
+    public void onEvict(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (frame < 0 || frame >= pages.length || pages[frame] != page) return;
+        clear(occupiedBits, frame);
+        clear(referenceBits, frame);
+        ages[frame] = FREE;
+        pages[frame] = null;
+        size--;
+    }
+
+    @Override
+    public void onInstructionExecuted(Instruction inst) {
+        if (++instructionsSinceTick >= tickInterval) {
+            instructionsSinceTick = 0;
+            tick();
+        }
+    }
+
+    /**
+     * Corre todos los registros un bit y mete el bit de referencia arriba.
+     */
+    private void tick() {
+        for (int word = 0; word < occupiedBits.length; word++) {
+            long occupied = occupiedBits[word];
+            long referenced = referenceBits[word];
+            while (occupied != 0L) {
+                int bit = Long.numberOfTrailingZeros(occupied);
+                int frame = (word << 6) + bit;
+                long age = (ages[frame] ^ Long.MIN_VALUE) >>> 1;
+                if ((referenced & (1L << bit)) != 0L) {
+                    age |= topBit;
+                }
+                ages[frame] = age ^ Long.MIN_VALUE;
+                occupied &= occupied - 1;
+            }
+            referenceBits[word] = 0L;
+        }
+        ticks++;
+    }
+
+    /**
+     * @return el registro de edad del marco (sin signo), 0 si está libre.
+     */
+    public long getAge(int frame) {
+        if (frame < 0 || frame >= pages.length || !is(occupiedBits, frame)) {
+            return 0L;
+        }
+        return ages[frame] ^ Long.MIN_VALUE;
+    }
+
+    private static boolean is(long[] bits, int frame) {
+        return (bits[frame >>> 6] & (1L << frame)) != 0L;
+    }
+
+    private static void set(long[] bits, int frame) {
+        bits[frame >>> 6] |= 1L << frame;
+    }
+
+    private static void clear(long[] bits, int frame) {
+        bits[frame >>> 6] &= ~(1L << frame);
+    }
+
+    private void ensureCapacity(int frame) {
+        if (frame < pages.length) {
+            return;
+        }
+        int oldLength = pages.length;
+        int frames = Math.max(oldLength * 2, (frame + 64) & ~63);
+        pages = Arrays.copyOf(pages, frames);
+        ages = Arrays.copyOf(ages, frames);
+        Arrays.fill(ages, oldLength, frames, FREE);
+        occupiedBits = Arrays.copyOf(occupiedBits, frames >>> 6);
+        referenceBits = Arrays.copyOf(referenceBits, frames >>> 6);
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(ages, FREE);
+        Arrays.fill(occupiedBits, 0L);
+        Arrays.fill(referenceBits, 0L);
+        Arrays.fill(pages, null);
+        this.size = 0;
+        this.instructionsSinceTick = 0;
+        this.ticks = 0;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Aging";
+    }
+
+    @Override
+    public String getDetailedState() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== Aging - Estado Actual ===\n");
+        sb.append(String.format("Registro: %d bits, tick cada %d instrucciones, ticks: %d\n",
+            bits, tickInterval, ticks));
+        sb.append("Páginas rastreadas: ").append(size).append("\n");
+
+        if (size > 0) {
+            sb.append("\nRegistros:\n");
+            for (int frame = 0; frame < pages.length; frame++) {
+                if (is(occupiedBits, frame)) {
+                    String register = Long.toBinaryString(getAge(frame));
+                    register = "0".repeat(bits - register.length()) + register;
+                    sb.append(String.format("  Page %d: marco=%d edad=%s bit=%d\n", pages[frame].getId(), frame,
+                        register, is(referenceBits, frame) ? 1 : 0));
+                }
+            }
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Aging[páginas=%d, bits=%d, ticks=%d]", size, bits, ticks);
+    }
+}
@@ -0,0 +1,354 @@
+package controladores;
+
+import modelos.Computer;
+import modelos.Page;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Algoritmo CLOCK-Pro
+ * Aproxima LIRS con el costo de un reloj: distingue páginas "calientes"
+ * (se reusan pronto) de "frías", y solo las frías son víctimas.
+ *
+ * Funcionamiento:
+ * - Cada página residente es caliente o fría, y tiene bit de referencia
+ * - Una página fría nueva entra en "periodo de prueba". Si se vuelve a usar
+ *   durante la prueba, pasa a caliente
+ * - Manecilla fría: busca víctima entre las frías. Una fría referenciada
+ *   se salva (si estaba en prueba se vuelve caliente, si no empieza una
+ *   prueba). La primera fría sin referencia sale
+ * - Manecilla caliente: cuando hay más calientes que las permitidas, enfría
+ *   la primera caliente sin referencia. De paso termina las pruebas de las
+ *   frías por las que pasa
+ * - Una fría que sale estando en prueba se recuerda solo por su id. Si
+ *   vuelve a fallar mientras se recuerda, entra directo como caliente
+ * - Adaptación: una página reusada en su prueba sube la cuota de frías
+ *   (m_c); una prueba que vence sin reuso la baja
+ * Un barrido (un 'new' grande que se toca una vez) solo produce páginas
+ * frías que salen sin sacar a las calientes.
+ *
+ * Implemntación:
+ * - Las residentes están en el anillo de marcos; sus estados son bitsets
+ *   (long[]) como en SC, sin objetos por página
+ * - Las no residentes en prueba van a una GhostQueue de ids acotada a la
+ *   cantidad de marcos. Vencen en orden de llegada, que es lo que haría
+ *   la tercera manecilla (la de prueba) al recorrerlas
+ * - Usar una página solo prende un bit
+ */
+
+public class ClockPro implements PageReplacementAlgorithm {
+
+    private static final int INITIAL_FRAMES = 64;
+
+    private long[] occupiedBits;
+    private long[] hotBits;
+    /** Frías residentes en periodo de prueba. */
+    private long[] testBits;
+    private long[] referenceBits;
+    private Page[] pages;
+
+    /** Frías no residentes en periodo de prueba (solo ids). */
+    private final GhostQueue nonResidentTest;
+
+    private int handCold;
+    private int handHot;
+
+    private int hotCount;
+    private int coldCount;
+
+    /** Cantidad de marcos (m). */
+    private int capacity;
+    private boolean capacityFixed;
+    /** Cuota de páginas frías (m_c), entre 1 y m - 1. */
+    private int coldTarget;
+
+    /** La página que está fallando se recordaba: entra caliente. */
+    private boolean pendingHot;
+
+    public ClockPro() {
+        this.occupiedBits = new long[INITIAL_FRAMES >>> 6];
+        this.hotBits = new long[INITIAL_FRAMES >>> 6];
+        this.testBits = new long[INITIAL_FRAMES >>> 6];
+        this.referenceBits = new long[INITIAL_FRAMES >>> 6];
+        this.pages = new Page[INITIAL_FRAMES];
+        this.nonResidentTest = new GhostQueue();
+        reset();
+    }
+
+    @Override
+    public void attach(Computer computer) {
+        this.capacity = computer.getAmountOfPagesInRAM();
+        this.capacityFixed = true;
+    }
+
+    @Override
+    public Page selectPageToReplace(List<Page> pagesInRAM) {
+        if (pagesInRAM == null || pagesInRAM.isEmpty()) {
+            return null;
+        }
+
+        if (hotCount + coldCount == 0) {
+            // No se avisó ninguna carga: cualquier página sirve
+            for (Page page : pagesInRAM) {
+                if (page != null) {
+                    return page;
+                }
+            }
+            return null;
+        }
+
+        // Manecilla fría. Cada vuelta sin víctima apaga bits o enfría una
+        // caliente, así que termina a lo más en unas pocas vueltas.
+        int frames = pages.length;
+        while (true) {
+            if (coldCount == 0) {
+                runHandHot(); // Todas calientes: enfriar una
+            }
+            int frame = handCold;
+            handCold = frame + 1 < frames ? frame + 1 : 0;
+            if (!is(occupiedBits, frame) || is(hotBits, frame)) {
+                continue;
+            }
+            if (!is(referenceBits, frame)) {
+                return pages[frame];
+            }
+            clear(referenceBits, frame);
+            if (is(testBits, frame)) {
+                // Reusada durante su prueba: se vuelve caliente
+                clear(testBits, frame);
+                set(hotBits, frame);
+                hotCount++;
+                coldCount--;
+                coldTarget = Math.min(coldTarget + 1, maxColdTarget());
+                balanceHot();
+            } else {
+                set(testBits, frame); // Empieza otra prueba
+            }
+        }
+    }
+
+    @Override
+    public void onMiss(Page page) {
+        if (page == null) return;
+        // Si se recordaba, su distancia de reuso es corta: entra caliente
+        pendingHot = nonResidentTest.remove(page.getId());
+        if (pendingHot) {
+            coldTarget = Math.min(coldTarget + 1, maxColdTarget());
+        }
+    }
+
+    @Override
+    public void onLoad(Page page) {
+        if (page == null || page.getIndexOfPage() < 0) return;
+        int frame = page.getIndexOfPage();
+        ensureCapacity(frame);
+        if (is(occupiedBits, frame)) {
+            forget(frame); // El marco tenía otra página que no se avisó
+        }
+        set(occupiedBits, frame);
+        clear(referenceBits, frame);
+        pages[frame] = page;
+        if (!capacityFixed) {
+            capacity = Math.max(capacity, hotCount + coldCount + 1);
+        }
+
+        // Al principio las páginas llenan la cuota de calientes
+        if (pendingHot || hotCount < capacity - coldTarget) {
+            set(hotBits, frame);
+            hotCount++;
+            balanceHot();
+        } else {
+            set(testBits, frame);
+            coldCount++;
+        }
+        pendingHot = false;
+    }
+
+    @Override
+    public void onUse(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (frame < 0 || frame >= pages.length || pages[frame] != page) return;
+        set(referenceBits, frame);
+    }
+
+    @Override
+    public void onEvict(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (frame < 0 || frame >= pages.length || pages[frame] != page) return;
+        if (is(testBits, frame)) {
+            // Sale en prueba: se recuerda su id. La más vieja vence.
+            nonResidentTest.addLast(page.getId());
+            if (nonResidentTest.size() > capacity) {
+                nonResidentTest.removeFirst();
+                coldTarget = Math.max(coldTarget - 1, 1);
+            }
+        }
+        forget(frame);
+    }
+
+    @Override
+    public void onFree(int ptr, List<Page> pages) {
+        // Los ids se van a reutilizar: olvidar sus pruebas
+        for (Page page : pages) {
+            nonResidentTest.remove(page.getId());
+        }
+    }
+
+    /**
+     * Corre la manecilla caliente mientras haya más calientes que su cuota.
+     */
+    private void balanceHot() {
+        while (hotCount > 1 && hotCount > capacity - coldTarget) {
+            runHandHot();
+        }
+    }
+
+    /**
+     * Manecilla caliente: enfría la primera caliente sin referencia y
+     * termina las pruebas de las frías por las que pasa.
+     */
+    private void runHandHot() {
+        int frames = pages.length;
+        while (hotCount > 0) {
+            int frame = handHot;
+            handHot = frame + 1 < frames ? frame + 1 : 0;
+            if (!is(occupiedBits, frame)) {
+                continue;
+            }
+            if (!is(hotBits, frame)) {
+                if (is(testBits, frame)) {
+                    // Su prueba venció sin reuso
+                    clear(testBits, frame);
+                    coldTarget = Math.max(coldTarget - 1, 1);
+                }
+                continue;
+            }
+            if (is(referenceBits, frame)) {
+                clear(referenceBits, frame);
+                continue;
+            }
+            clear(hotBits, frame);
+            hotCount--;
+            coldCount++;
+            return;
+        }
+    }
+
+    private void forget(int frame) {
+        if (is(hotBits, frame)) {
+            hotCount--;
+        } else {
+            coldCount--;
+        }
+        clear(occupiedBits, frame);
+        clear(hotBits, frame);
+        clear(testBits, frame);
+        clear(referenceBits, frame);
+        pages[frame] = null;
+    }
+
+    private int maxColdTarget() {
+        return Math.max(capacity - 1, 1);
+    }
+
+    private static boolean is(long[] bits, int frame) {
+        return (bits[frame >>> 6] & (1L << frame)) != 0L;
+    }
+
+    private static void set(long[] bits, int frame) {
+        bits[frame >>> 6] |= 1L << frame;
+    }
+
+    private static void clear(long[] bits, int frame) {
+        bits[frame >>> 6] &= ~(1L << frame);
+    }
+
+    private void ensureCapacity(int frame) {
+        if (frame < pages.length) {
+            return;
+        }
+        int frames = Math.max(pages.length * 2, (frame + 64) & ~63);
+        pages = Arrays.copyOf(pages, frames);
+        occupiedBits = Arrays.copyOf(occupiedBits, frames >>> 6);
+        hotBits = Arrays.copyOf(hotBits, frames >>> 6);
+        testBits = Arrays.copyOf(testBits, frames >>> 6);
+        referenceBits = Arrays.copyOf(referenceBits, frames >>> 6);
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(occupiedBits, 0L);
+        Arrays.fill(hotBits, 0L);
+        Arrays.fill(testBits, 0L);
+        Arrays.fill(referenceBits, 0L);
+        Arrays.fill(pages, null);
+        nonResidentTest.clear();
+        this.handCold = 0;
+        this.handHot = 0;
+        this.hotCount = 0;
+        this.coldCount = 0;
+        if (!capacityFixed) {
+            this.capacity = 0;
+        }
+        this.coldTarget = 1;
+        this.pendingHot = false;
+    }
+
+    public int getHotCount() {
+        return hotCount;
+    }
+
+    public int getColdCount() {
+        return coldCount;
+    }
+
+    /**
+     * @return cuántas frías no residentes siguen en prueba (a lo más los marcos).
+     */
+    public int getNonResidentTestCount() {
+        return nonResidentTest.size();
+    }
+
+    /**
+     * @return la cuota de páginas frías (m_c).
+     */
+    public int getColdTarget() {
+        return coldTarget;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "CLOCK-Pro";
+    }
+
+    @Override
+    public String getDetailedState() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== CLOCK-Pro - Estado Actual ===\n");
+        sb.append("Marcos (m): ").append(capacity).append("\n");
+        sb.append("Cuota de frías (m_c): ").append(coldTarget).append("\n");
+        sb.append(String.format("Calientes=%d Frías=%d No residentes en prueba=%d\n",
+            hotCount, coldCount, nonResidentTest.size()));
+        sb.append(String.format("Manecillas: fría=%d caliente=%d\n", handCold, handHot));
+
+        if (hotCount + coldCount > 0) {
+            sb.append("\nReloj:\n");
+            for (int frame = 0; frame < pages.length; frame++) {
+                if (is(occupiedBits, frame)) {
+                    String estado = is(hotBits, frame) ? "caliente" : (is(testBits, frame) ? "fría (prueba)" : "fría");
+                    sb.append(String.format("  Page %d: marco=%d %s bit=%d\n", pages[frame].getId(), frame,
+                        estado, is(referenceBits, frame) ? 1 : 0));
+                }
+            }
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CLOCK-Pro[calientes=%d, frías=%d, m_c=%d]", hotCount, coldCount, coldTarget);
+    }
+}
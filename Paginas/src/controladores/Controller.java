@@ -1,11 +1,9 @@
 package controladores;
 
+import modelos.ComputerConfig;
 import modelos.Instruction;
 import modelos.Process;
 import java.util.List;
-import java.util.ArrayList;
-import java.util.Random;
-import java.util.stream.Collectors;
 
 /**
  * Controlador Central (MVC).
@@ -23,13 +21,13 @@ public class Controller {
     
     // --- Estado de Simulación ---
     private List<Process> processes;
-    private List<Instruction> loadedInstructionSequence; // Para modo "Cargar Archivo"
+    private List<Instruction> loadedInstructionSequence; // Lista intercalada (archivo o generada)
     private int loadedInstructionIndex;
     
     private boolean isPaused;
     private boolean isFileMode; // true si cargamos desde archivo
     private boolean simulationEnded; // true si no hay más instrucciones
-    private Random simulationRandom; // Random para elegir procesos en modo "Generar"
+    private ComputerConfig computerConfig; // Tamaño de RAM y de página de ambas MMUs
     
     // NO HAY TIMER AQUÍ. La VentanaSimulacion lo manejará.
 
@@ -47,10 +45,21 @@ public class Controller {
 
     /**
      * Llamado por la VISTA cuando el usuario presiona "Iniciar Simulación".
+     * Usa la máquina por defecto (400 KB de RAM, páginas de 4 KB).
      */
     public void setupSimulation(PageReplacementAlgorithm algorithm, long seed, String filePath, int P, int N) {
+        setupSimulation(algorithm, seed, filePath, P, N, ComputerConfig.defaults());
+    }
+    
+    /**
+     * Igual que el anterior, pero con la geometría de la máquina a simular.
+     * Ambas MMUs reciben la misma configuración.
+     */
+    public void setupSimulation(PageReplacementAlgorithm algorithm, long seed, String filePath, int P, int N,
+                                ComputerConfig config) {
         
-        this.simulationRandom = new Random(seed);
+        this.computerConfig = config;
+        this.loadedInstructionIndex = 0;
         InstructionFileHandler.SimulationData data;
         
         try {
@@ -64,9 +73,10 @@ public class Controller {
             } else {
                 // --- MODO GENERAR NUEVO ---
                 this.isFileMode = false;
+                // El intercalado se arma completo con la semilla antes de correr
                 data = fileHandler.generateProcesses(P, N, seed);
+                this.loadedInstructionSequence = data.instructions;
                 this.processes = data.processes;
-                // loadedInstructionSequence permanece null, lo cual es correcto
             }
         } catch (Exception e) {
             System.err.println("Error al preparar la simulación: " + e.getMessage());
@@ -76,17 +86,15 @@ public class Controller {
 
         // --- Configuración de MMUs ---
         OPT optAlgorithm = new OPT();
-        if (isFileMode) {
-            // OPT necesita la lista pre-cargada para predecir el futuro
-            optAlgorithm.setInstructionSequence(this.loadedInstructionSequence); 
-        }
+        // OPT necesita la lista completa para predecir el futuro (en ambos modos)
+        optAlgorithm.setInstructionSequence(this.loadedInstructionSequence);
         
         if (algorithm instanceof RND) {
             ((RND) algorithm).setSeed(seed);
         }
 
-        this.mmuOpt = new MMU(optAlgorithm, this.processes);
-        this.mmuUser = new MMU(algorithm, this.processes);
+        this.mmuOpt = new MMU(optAlgorithm, this.processes, config);
+        this.mmuUser = new MMU(algorithm, this.processes, config);
         
         this.simulationEnded = false;
     }
@@ -102,35 +110,17 @@ public class Controller {
 
         Instruction inst = null;
 
-        if (isFileMode) {
-            // --- MODO ARCHIVO: Leer la siguiente instrucción de la lista ---
-            if (this.loadedInstructionSequence == null) { // Guarda de seguridad
-                 simulationEnded = true;
-                 return;
-            }
-            if (loadedInstructionIndex < loadedInstructionSequence.size()) {
-                inst = loadedInstructionSequence.get(loadedInstructionIndex);
-                loadedInstructionIndex++;
-            } else {
-                simulationEnded = true; // Se acabaron las instrucciones
-            }
+        // --- Leer la siguiente instrucción de la lista intercalada ---
+        // (la del archivo, o la que se generó con la semilla)
+        if (this.loadedInstructionSequence == null) { // Guarda de seguridad
+             simulationEnded = true;
+             return;
+        }
+        if (loadedInstructionIndex < loadedInstructionSequence.size()) {
+            inst = loadedInstructionSequence.get(loadedInstructionIndex);
+            loadedInstructionIndex++;
         } else {
-            // --- MODO GENERADO: Elegir un proceso activo y tomar su instrucción ---
-            if (this.processes == null) { // Guarda de seguridad
-                simulationEnded = true;
-                return;
-            }
-            
-            List<Process> activeProcesses = processes.stream()
-                                                     .filter(p -> p.isActive() && !p.isFinished())
-                                                     .collect(Collectors.toList());
-            
-            if (activeProcesses.isEmpty()) {
-                simulationEnded = true; // Se acabaron las instrucciones
-            } else {
-                Process chosenProcess = activeProcesses.get(simulationRandom.nextInt(activeProcesses.size()));
-                inst = chosenProcess.getNextInstruction();
-            }
+            simulationEnded = true; // Se acabaron las instrucciones
         }
 
         // Si no hay más instrucciones, pausar y salir
@@ -169,6 +159,7 @@ public class Controller {
 
     public MMU getMmuOpt() { return mmuOpt; }
     public MMU getMmuUser() { return mmuUser; }
+    public ComputerConfig getComputerConfig() { return computerConfig; }
     public boolean isPaused() { return isPaused; }
     public boolean isSimulationEnded() { return simulationEnded; }
 }
\ No newline at end of file
@@ -2,27 +2,26 @@ package controladores;
 
 import modelos.Page;
 import java.util.List;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Algoritmo FIFO (First In, First Out)
  * Reemplaza la página que fue cargada primero en RAM
- * 
+ *
  * Implemntación:
- * - Usa un contador global que se incrementa en cada carga
- * - Cada página tien un "timestamp" de cuando fue cargada
- * - La victima es la página con el timestamp más antiguo
+ * - Una cola de llegada con los marcos residentes (FrameList)
+ * - Cargar una página la pone al final de la cola
+ * - La victima es la página del frente de la cola
+ * - Un evict de cualquier página (por ejemplo por un delete) la desenlaza
+ * Todo es O(1), cuesta lo mismo con 100 marcos que con 10 millones.
  */
 
 public class FIFO implements PageReplacementAlgorithm {
-    
+
     /**
-     * Mapa que asocia cada págian con su orden de llegada.
-     * KEy: ID de la pagina
-     * Value: Timestamp de carga( menor = más antiguo)
+     * Cola de llegada: frente = la más antigua, final = la más nueva.
+     * Se enlaza por índice de marco.
      */
-    private Map<Integer, Integer> pageLoadOrder;
+    private final FrameList arrivalQueue;
 
     /**
      * Contador global que se incrementa en cada página cargada.
@@ -30,66 +29,57 @@ public class FIFO implements PageReplacementAlgorithm {
     private int globalLoadCounter;
 
     public FIFO() {
-        this.pageLoadOrder = new HashMap<>();
+        this.arrivalQueue = new FrameList();
         this.globalLoadCounter = 0;
     }
 
     @Override
     public Page selectPageToReplace(List<Page> pagesInRAM) {
         if (pagesInRAM == null || pagesInRAM.isEmpty()) {
-            return null; 
+            return null;
         }
 
-        Page victimPage = null;
-        int oldestLoadTime = Integer.MAX_VALUE;
+        int oldest = arrivalQueue.first();
+        if (oldest != FrameList.NIL) {
+            return arrivalQueue.getPage(oldest);
+        }
 
+        // No se avisó ninguna carga: cualquier página sirve
         for (Page page : pagesInRAM) {
-            Integer timestamp = pageLoadOrder.get(page.getId());
-
-            if (timestamp == null) {
-                timestamp = Integer.MAX_VALUE;
-            }
-
-            if (timestamp < oldestLoadTime) {
-                oldestLoadTime = timestamp;
-                victimPage = page;
+            if (page != null) {
+                return page;
             }
         }
-
-        return victimPage;
+        return null;
     }
 
     @Override
-    public void updateMetadata(Page page, String event) {
-        if (page == null) return;
+    public void onLoad(Page page) {
+        if (page == null || page.getIndexOfPage() < 0) return;
+        // Entra al final de la cola
+        arrivalQueue.addLast(page.getIndexOfPage(), page);
+        globalLoadCounter++;
+    }
 
-        switch (event.toLowerCase()) {
-            case "load":
-                // Asignar timestamp de carga
-                pageLoadOrder.put(page.getId(), globalLoadCounter);
-                globalLoadCounter++;
-                break;
-                
-            case "evict":
-                // Remover la página del mapa cuando se envía a disco
-                pageLoadOrder.remove(page.getId());
-                break;
-                
-            case "use":
-                // FIFO no hace nada cuando se usa una página
-                // (el orden de llegada no cambia)
-                break;
-                
-            default:
-                System.err.println("FIFO: Evento desconocido: " + event);
+    @Override
+    public void onUse(Page page) {
+        // FIFO no hace nada cuando se usa una página
+        // (el orden de llegada no cambia)
+    }
 
+    @Override
+    public void onEvict(Page page) {
+        if (page == null) return;
+        // Desenlazar su marco, esté donde esté en la cola
+        int frame = page.getIndexOfPage();
+        if (arrivalQueue.getPage(frame) == page) {
+            arrivalQueue.remove(frame);
         }
-
     }
 
     @Override
     public void reset() {
-        this.pageLoadOrder.clear();
+        this.arrivalQueue.clear();
         this.globalLoadCounter = 0;
     }
 
@@ -103,22 +93,21 @@ public class FIFO implements PageReplacementAlgorithm {
         StringBuilder sb = new StringBuilder();
         sb.append("=== FIFO - Estado Actual ===\n");
         sb.append("Contador Global: ").append(globalLoadCounter).append("\n");
-        sb.append("Páginas rastreadas: ").append(pageLoadOrder.size()).append("\n");
-
-        if (!pageLoadOrder.isEmpty()) {
-            sb.append("\nOrden de carga (ID -> Timestamp):\n");
-            pageLoadOrder.entrySet().stream()
-                .sorted(Map.Entry.comparingByValue()) // Ordenar por timestamp
-                .forEach(entry -> sb.append(String.format("  Page %d: cargada en t=%d\n", 
-                    entry.getKey(), entry.getValue())));
+        sb.append("Páginas rastreadas: ").append(arrivalQueue.size()).append("\n");
+
+        if (!arrivalQueue.isEmpty()) {
+            sb.append("\nOrden de carga (frente -> final):\n");
+            for (int frame = arrivalQueue.first(); frame != FrameList.NIL; frame = arrivalQueue.next(frame)) {
+                sb.append(String.format("  Page %d: marco %d\n", arrivalQueue.getPage(frame).getId(), frame));
+            }
         }
-        
+
         return sb.toString();
     }
 
     @Override
     public String toString() {
-        return String.format("FIFO[páginas=%d, contador=%d]", 
-            pageLoadOrder.size(), globalLoadCounter);
-    }  
+        return String.format("FIFO[páginas=%d, contador=%d]",
+            arrivalQueue.size(), globalLoadCounter);
+    }
 }
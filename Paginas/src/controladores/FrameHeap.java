@@ -0,0 +1,177 @@
+package controladores;
+
+import modelos.Page;
+import java.util.Arrays;
+
+/**
+ * Heap de máximos indexado sobre los índices de marco.
+ *
+ * Cada marco residente tiene una llave (int). pos[marco] dice dónde está el
+ * marco dentro del heap, así que cambiar la llave de un marco o sacarlo
+ * cuesta O(log marcos) sin buscarlo. Leer el máximo cuesta O(1).
+ *
+ * Los arreglos crecen solos si llega un marco más grande que la capacidad.
+ */
+class FrameHeap {
+
+    private static final int NOT_IN_HEAP = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** heap[i] = marco en la posición i del heap. */
+    private int[] heap;
+    /** pos[marco] = posición del marco en el heap, o NOT_IN_HEAP. */
+    private int[] pos;
+    private int[] keys;
+    private Page[] pages;
+    private int size;
+
+    FrameHeap() {
+        this.heap = new int[INITIAL_CAPACITY];
+        this.pos = new int[INITIAL_CAPACITY];
+        this.keys = new int[INITIAL_CAPACITY];
+        this.pages = new Page[INITIAL_CAPACITY];
+        clear();
+    }
+
+    /**
+     * Agrega un marco, o le cambia la llave si ya estaba.
+     */
+    void put(int frame, Page page, int key) {
+        ensureCapacity(frame);
+        pages[frame] = page;
+        if (contains(frame)) {
+            update(frame, key);
+            return;
+        }
+        keys[frame] = key;
+        heap[size] = frame;
+        pos[frame] = size;
+        size++;
+        siftUp(size - 1);
+    }
+
+    /**
+     * Cambia la llave de un marco que ya está en el heap.
+     */
+    void update(int frame, int key) {
+        if (!contains(frame)) {
+            return;
+        }
+        int old = keys[frame];
+        keys[frame] = key;
+        if (key > old) {
+            siftUp(pos[frame]);
+        } else if (key < old) {
+            siftDown(pos[frame]);
+        }
+    }
+
+    /**
+     * Saca un marco del heap.
+     * @return true si estaba.
+     */
+    boolean remove(int frame) {
+        if (!contains(frame)) {
+            return false;
+        }
+        int at = pos[frame];
+        int lastFrame = heap[--size];
+        pos[frame] = NOT_IN_HEAP;
+        pages[frame] = null;
+        if (at != size) {
+            heap[at] = lastFrame;
+            pos[lastFrame] = at;
+            siftDown(at);
+            siftUp(pos[lastFrame]);
+        }
+        return true;
+    }
+
+    boolean contains(int frame) {
+        return frame >= 0 && frame < pos.length && pos[frame] != NOT_IN_HEAP;
+    }
+
+    /**
+     * @return el marco con la llave más grande, -1 si está vacío.
+     */
+    int peekFrame() {
+        return size == 0 ? -1 : heap[0];
+    }
+
+    Page getPage(int frame) {
+        return contains(frame) ? pages[frame] : null;
+    }
+
+    int getKey(int frame) {
+        return keys[frame];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    final void clear() {
+        Arrays.fill(pos, NOT_IN_HEAP);
+        Arrays.fill(pages, null);
+        size = 0;
+    }
+
+    private void siftUp(int at) {
+        int frame = heap[at];
+        int key = keys[frame];
+        while (at > 0) {
+            int parent = (at - 1) >>> 1;
+            int parentFrame = heap[parent];
+            if (keys[parentFrame] >= key) {
+                break;
+            }
+            heap[at] = parentFrame;
+            pos[parentFrame] = at;
+            at = parent;
+        }
+        heap[at] = frame;
+        pos[frame] = at;
+    }
+
+    private void siftDown(int at) {
+        int frame = heap[at];
+        int key = keys[frame];
+        int half = size >>> 1;
+        while (at < half) {
+            int child = 2 * at + 1;
+            int right = child + 1;
+            if (right < size && keys[heap[right]] > keys[heap[child]]) {
+                child = right;
+            }
+            int childFrame = heap[child];
+            if (key >= keys[childFrame]) {
+                break;
+            }
+            heap[at] = childFrame;
+            pos[childFrame] = at;
+            at = child;
+        }
+        heap[at] = frame;
+        pos[frame] = at;
+    }
+
+    private void ensureCapacity(int frame) {
+        if (frame < 0) {
+            throw new IndexOutOfBoundsException("Índice de marco inválido: " + frame);
+        }
+        if (frame < pos.length) {
+            return;
+        }
+        int oldLength = pos.length;
+        int newLength = Math.max(oldLength * 2, frame + 1);
+        heap = Arrays.copyOf(heap, newLength);
+        pos = Arrays.copyOf(pos, newLength);
+        keys = Arrays.copyOf(keys, newLength);
+        pages = Arrays.copyOf(pages, newLength);
+        Arrays.fill(pos, oldLength, newLength, NOT_IN_HEAP);
+    }
+}
@@ -0,0 +1,212 @@
+package controladores;
+
+import modelos.Page;
+import java.util.Arrays;
+
+/**
+ * Lista doblemente enlazada "intrusiva" sobre los índices de marco.
+ *
+ * No crea nodos: el marco i usa next[i] y prev[i] como sus enlaces, así que
+ * agregar, quitar un marco cualquiera o moverlo a un extremo cuesta O(1) sin
+ * importar cuántos marcos tenga la RAM. La usan los algoritmos que necesitan
+ * un orden entre las páginas residentes (FIFO, MRU, ...).
+ *
+ * Un marco está en la lista a lo más una vez. Los arreglos crecen solos si
+ * llega un marco más grande que la capacidad.
+ */
+class FrameList {
+
+    /** Fin de la lista. */
+    static final int NIL = -1;
+
+    /** Marca de un marco que no está en la lista. */
+    private static final int UNLINKED = -2;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] next;
+    private int[] prev;
+    private Page[] pages;
+
+    private int head;
+    private int tail;
+    private int size;
+
+    FrameList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param capacity cantidad de marcos esperada.
+     */
+    FrameList(int capacity) {
+        int initial = Math.max(capacity, 1);
+        this.next = new int[initial];
+        this.prev = new int[initial];
+        this.pages = new Page[initial];
+        clear();
+    }
+
+    /**
+     * Agrega un marco al final. Si ya estaba, primero lo quita.
+     */
+    void addLast(int frame, Page page) {
+        ensureCapacity(frame);
+        remove(frame);
+        pages[frame] = page;
+        prev[frame] = tail;
+        next[frame] = NIL;
+        if (tail == NIL) {
+            head = frame;
+        } else {
+            next[tail] = frame;
+        }
+        tail = frame;
+        size++;
+    }
+
+    /**
+     * Agrega un marco al inicio. Si ya estaba, primero lo quita.
+     */
+    void addFirst(int frame, Page page) {
+        ensureCapacity(frame);
+        remove(frame);
+        pages[frame] = page;
+        next[frame] = head;
+        prev[frame] = NIL;
+        if (head == NIL) {
+            tail = frame;
+        } else {
+            prev[head] = frame;
+        }
+        head = frame;
+        size++;
+    }
+
+    /**
+     * Mueve un marco que ya está en la lista al inicio.
+     */
+    void moveToFirst(int frame) {
+        if (contains(frame) && head != frame) {
+            addFirst(frame, pages[frame]);
+        }
+    }
+
+    /**
+     * Mueve un marco que ya está en la lista al final.
+     */
+    void moveToLast(int frame) {
+        if (contains(frame) && tail != frame) {
+            addLast(frame, pages[frame]);
+        }
+    }
+
+    /**
+     * Cambia la página guardada con un marco que ya está en la lista, sin
+     * moverlo.
+     */
+    void setPage(int frame, Page page) {
+        if (contains(frame)) {
+            pages[frame] = page;
+        }
+    }
+
+    /**
+     * Desenlaza un marco.
+     * @return true si estaba en la lista.
+     */
+    boolean remove(int frame) {
+        if (!contains(frame)) {
+            return false;
+        }
+        int before = prev[frame];
+        int after = next[frame];
+        if (before == NIL) {
+            head = after;
+        } else {
+            next[before] = after;
+        }
+        if (after == NIL) {
+            tail = before;
+        } else {
+            prev[after] = before;
+        }
+        next[frame] = UNLINKED;
+        prev[frame] = UNLINKED;
+        pages[frame] = null;
+        size--;
+        return true;
+    }
+
+    boolean contains(int frame) {
+        return frame >= 0 && frame < next.length && next[frame] != UNLINKED;
+    }
+
+    /**
+     * @return el marco del inicio, NIL si la lista está vacía.
+     */
+    int first() {
+        return head;
+    }
+
+    /**
+     * @return el marco del final, NIL si la lista está vacía.
+     */
+    int last() {
+        return tail;
+    }
+
+    /**
+     * @return el marco que sigue a frame, NIL si es el último.
+     */
+    int next(int frame) {
+        return next[frame];
+    }
+
+    /**
+     * @return el marco anterior a frame, NIL si es el primero.
+     */
+    int prev(int frame) {
+        return prev[frame];
+    }
+
+    /**
+     * @return la página guardada con ese marco, null si no está en la lista.
+     */
+    Page getPage(int frame) {
+        return contains(frame) ? pages[frame] : null;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    final void clear() {
+        Arrays.fill(next, UNLINKED);
+        Arrays.fill(prev, UNLINKED);
+        Arrays.fill(pages, null);
+        head = NIL;
+        tail = NIL;
+        size = 0;
+    }
+
+    private void ensureCapacity(int frame) {
+        if (frame < 0) {
+            throw new IndexOutOfBoundsException("Índice de marco inválido: " + frame);
+        }
+        if (frame < next.length) {
+            return;
+        }
+        int oldLength = next.length;
+        int newLength = Math.max(oldLength * 2, frame + 1);
+        next = Arrays.copyOf(next, newLength);
+        prev = Arrays.copyOf(prev, newLength);
+        pages = Arrays.copyOf(pages, newLength);
+        Arrays.fill(next, oldLength, newLength, UNLINKED);
+        Arrays.fill(prev, oldLength, newLength, UNLINKED);
+    }
+}
@@ -0,0 +1,128 @@
+package controladores;
+
+import modelos.IntIntMap;
+import java.util.Arrays;
+
+/**
+ * Cola de ids de página "fantasma": páginas que ya salieron de la RAM y
+ * de las que solo se recuerda el id (no se guarda el objeto Page).
+ *
+ * Es una lista doblemente enlazada sobre arreglos de nodos, con un
+ * IntIntMap de id a nodo, así que agregar al final, sacar el primero y
+ * sacar un id cualquiera cuestan O(1). Los nodos libres se reciclan.
+ * La usan los algoritmos con historial de páginas evictadas (ARC, ...).
+ */
+class GhostQueue {
+
+    private static final int NIL = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] ids;
+    private int[] next;
+    private int[] prev;
+    /** id de página -> nodo. */
+    private final IntIntMap nodeById;
+
+    private int head;
+    private int tail;
+    private int size;
+    /** Pila de nodos libres, enlazados por next. */
+    private int freeNodes;
+
+    GhostQueue() {
+        this.ids = new int[0];
+        this.next = new int[0];
+        this.prev = new int[0];
+        this.nodeById = new IntIntMap();
+        this.freeNodes = NIL;
+        grow(INITIAL_CAPACITY);
+        clear();
+    }
+
+    /**
+     * Agrega un id al final (el más reciente). Si ya estaba, lo mueve.
+     */
+    void addLast(int id) {
+        remove(id);
+        if (freeNodes == NIL) {
+            grow(ids.length * 2);
+        }
+        int node = freeNodes;
+        freeNodes = next[node];
+        ids[node] = id;
+        prev[node] = tail;
+        next[node] = NIL;
+        if (tail != NIL) next[tail] = node; else head = node;
+        tail = node;
+        nodeById.put(id, node);
+        size++;
+    }
+
+    /**
+     * Saca un id, esté donde esté.
+     * @return true si estaba.
+     */
+    boolean remove(int id) {
+        int node = nodeById.get(id, NIL);
+        if (node == NIL) {
+            return false;
+        }
+        nodeById.remove(id);
+        int before = prev[node];
+        int after = next[node];
+        if (before != NIL) next[before] = after; else head = after;
+        if (after != NIL) prev[after] = before; else tail = before;
+        next[node] = freeNodes;
+        freeNodes = node;
+        size--;
+        return true;
+    }
+
+    /**
+     * Saca el id más antiguo.
+     * @return el id, o -1 si está vacía.
+     */
+    int removeFirst() {
+        if (head == NIL) {
+            return NIL;
+        }
+        int id = ids[head];
+        remove(id);
+        return id;
+    }
+
+    boolean contains(int id) {
+        return nodeById.containsKey(id);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    final void clear() {
+        nodeById.clear();
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        freeNodes = NIL;
+        for (int node = ids.length - 1; node >= 0; node--) {
+            next[node] = freeNodes;
+            freeNodes = node;
+        }
+    }
+
+    private void grow(int newLength) {
+        int oldLength = ids.length;
+        ids = Arrays.copyOf(ids, newLength);
+        next = Arrays.copyOf(next, newLength);
+        prev = Arrays.copyOf(prev, newLength);
+        for (int node = newLength - 1; node >= oldLength; node--) {
+            next[node] = freeNodes;
+            freeNodes = node;
+        }
+    }
+}
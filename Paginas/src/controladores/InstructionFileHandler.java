@@ -10,6 +10,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -22,8 +23,8 @@ public class InstructionFileHandler {
 
     // Contadores para el parser/generador
     private int nextPtrId;
-    private Map<Integer, Integer> ordinalToPtrIdMap; // Mapa: 1er ptr -> ptrID 1
-    private Map<Integer, Integer> ptrIdToPidMap;     // Mapa: ptrID -> PID
+    private IntIntMap ordinalToPtrIdMap; // Mapa: 1er ptr -> ptrID 1
+    private IntIntMap ptrIdToPidMap;     // Mapa: ptrID -> PID
     private Map<Integer, Process> processMap;        // Mapa: PID -> Objeto Process
 
     public InstructionFileHandler() {
@@ -32,8 +33,8 @@ public class InstructionFileHandler {
     
     private void resetParserState() {
         this.nextPtrId = 1;
-        this.ordinalToPtrIdMap = new HashMap<>();
-        this.ptrIdToPidMap = new HashMap<>();
+        this.ordinalToPtrIdMap = new IntIntMap();
+        this.ptrIdToPidMap = new IntIntMap();
         this.processMap = new HashMap<>();
     }
 
@@ -104,8 +105,8 @@ public class InstructionFileHandler {
                     if (!ordinalToPtrIdMap.containsKey(ordinalUse)) {
                         throw new IllegalArgumentException("Error de Parseo: Puntero ordinal " + ordinalUse + " no existe.");
                     }
-                    int ptrIdUse = ordinalToPtrIdMap.get(ordinalUse);
-                    pid = ptrIdToPidMap.get(ptrIdUse);
+                    int ptrIdUse = ordinalToPtrIdMap.get(ordinalUse, -1);
+                    pid = ptrIdToPidMap.get(ptrIdUse, -1);
                     inst = new Use(pid, ptrIdUse);
                     break;
 
@@ -114,8 +115,8 @@ public class InstructionFileHandler {
                     if (!ordinalToPtrIdMap.containsKey(ordinalDel)) {
                         throw new IllegalArgumentException("Error de Parseo: Puntero ordinal " + ordinalDel + " no existe.");
                     }
-                    int ptrIdDel = ordinalToPtrIdMap.get(ordinalDel);
-                    pid = ptrIdToPidMap.get(ptrIdDel);
+                    int ptrIdDel = ordinalToPtrIdMap.get(ordinalDel, -1);
+                    pid = ptrIdToPidMap.get(ptrIdDel, -1);
                     inst = new Delete(pid, ptrIdDel);
                     break;
 
@@ -145,7 +146,13 @@ public class InstructionFileHandler {
 
     /**
      * Genera una nueva lista de procesos e instrucciones (LÓGICA ROBUSTA).
-     * Ya no crea una lista intercalada, solo añade instrucciones lógicas a cada proceso.
+     * Primero añade las instrucciones lógicas a cada proceso y al final las
+     * intercala con la misma semilla: SimulationData.instructions es esa
+     * lista intercalada, la que ejecutan ambas MMUs y la que recibe OPT.
+     *
+     * Al intercalar, los ptrs de los 'use'/'delete' se renumeran en el mismo
+     * objeto (setPtr), así que las listas de cada Process también quedan con
+     * la numeración intercalada.
      */
     public SimulationData generateProcesses(int P, int N, long seed) {
         resetParserState();
@@ -165,6 +172,8 @@ public class InstructionFileHandler {
         for (int i = 1; i <= P; i++) {
             processPtrs.put(i, new ArrayList<>());
         }
+        // ptrID que recibió cada 'new' al generarse (para renumerar al intercalar)
+        Map<New, Integer> generatedPtrOf = new IdentityHashMap<>();
 
         // 2. Generar N-P instrucciones (reservando P para los 'kill')
         for (int i = 0; i < (N - P); i++) {
@@ -187,6 +196,7 @@ public class InstructionFileHandler {
                 case 3:
                     int size = (rand.nextInt(10) + 1) * 512; // Tamaños de 512B a 5120B
                     inst = new New(pid, size);
+                    generatedPtrOf.put((New) inst, nextPtrId);
                     
                     // --- Lógica de "parser inteligente" para generación ---
                     int currentOrdinal = ordinalToPtrIdMap.size() + 1;
@@ -228,9 +238,68 @@ public class InstructionFileHandler {
             p.addInstruction(killInst); 
         }
 
-        // 4. NO devolver una lista intercalada. Devolver solo los procesos.
-        // El Controller se encargará de intercalar en tiempo de ejecución.
-        return new SimulationData(null, processes);
+        // 4. Intercalar las instrucciones de todos los procesos con la misma semilla.
+        // Así la corrida completa se conoce antes de empezar (OPT la necesita).
+        return new SimulationData(interleave(processes, generatedPtrOf, rand), processes);
+    }
+
+    /**
+     * Arma la lista intercalada que van a ejecutar ambas MMUs.
+     *
+     * En cada paso se elige al azar un proceso que todavía tenga instrucciones
+     * y se toma la siguiente de su lista (el orden dentro de cada proceso se
+     * respeta). Como la tabla de símbolos numera los punteros en el orden en
+     * que se ejecutan los 'new', los ptrs de los 'use'/'delete' se renumeran
+     * para que el k-ésimo 'new' de la lista intercalada sea el puntero k.
+     * La renumeración cambia las mismas instrucciones que están en cada Process.
+     */
+    private List<Instruction> interleave(List<Process> processes, Map<New, Integer> generatedPtrOf,
+                                         Random rand) {
+        int total = 0;
+        for (Process p : processes) {
+            total += p.getInstructionList().size();
+        }
+        List<Instruction> schedule = new ArrayList<>(total);
+
+        // Procesos con instrucciones pendientes (arreglo denso, se saca con swap)
+        int[] pending = new int[processes.size()];
+        int[] cursor = new int[processes.size()];
+        int pendingCount = 0;
+        for (int i = 0; i < processes.size(); i++) {
+            if (!processes.get(i).getInstructionList().isEmpty()) {
+                pending[pendingCount++] = i;
+            }
+        }
+
+        // Los mapas del parser quedan con la numeración intercalada
+        IntIntMap generatedToScheduled = new IntIntMap();
+        ordinalToPtrIdMap.clear();
+        ptrIdToPidMap.clear();
+        int nextScheduledPtr = 1;
+        while (pendingCount > 0) {
+            int slot = rand.nextInt(pendingCount);
+            int index = pending[slot];
+            List<Instruction> list = processes.get(index).getInstructionList();
+            Instruction inst = list.get(cursor[index]++);
+            if (cursor[index] == list.size()) {
+                pending[slot] = pending[--pendingCount];
+            }
+
+            if (inst instanceof New) {
+                int ptr = nextScheduledPtr++;
+                generatedToScheduled.put(generatedPtrOf.get(inst), ptr);
+                ordinalToPtrIdMap.put(ptr, ptr);
+                ptrIdToPidMap.put(ptr, inst.getPid());
+            } else if (inst instanceof Use) {
+                Use use = (Use) inst;
+                use.setPtr(generatedToScheduled.get(use.getPtr(), use.getPtr()));
+            } else if (inst instanceof Delete) {
+                Delete del = (Delete) inst;
+                del.setPtr(generatedToScheduled.get(del.getPtr(), del.getPtr()));
+            }
+            schedule.add(inst);
+        }
+        return schedule;
     }
     
     /**
@@ -246,7 +315,7 @@ public class InstructionFileHandler {
         System.out.println("Guardando " + instructions.size() + " instrucciones en " + filePath);
         
         // Reconstruir mapa de ptrID -> ordinal
-        Map<Integer, Integer> ptrIdToOrdinalMap = new HashMap<>();
+        IntIntMap ptrIdToOrdinalMap = new IntIntMap();
         int ordinalCounter = 1;
 
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
@@ -264,12 +333,12 @@ public class InstructionFileHandler {
                     
                 } else if (inst instanceof Use) {
                     int ptrId = ((Use) inst).getPtr();
-                    int ordinal = ptrIdToOrdinalMap.getOrDefault(ptrId, -1);
+                    int ordinal = ptrIdToOrdinalMap.get(ptrId, -1);
                     line = String.format("use(%d)", ordinal);
                     
                 } else if (inst instanceof Delete) {
                     int ptrId = ((Delete) inst).getPtr();
-                    int ordinal = ptrIdToOrdinalMap.getOrDefault(ptrId, -1);
+                    int ordinal = ptrIdToOrdinalMap.get(ptrId, -1);
                     line = String.format("delete(%d)", ordinal);
                     
                 } else if (inst instanceof Kill) {
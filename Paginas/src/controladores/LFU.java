@@ -0,0 +1,273 @@
+package controladores;
+
+import modelos.Page;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Algoritmo LFU (Least Frequently Used)
+ * Reemplaza la página residente que menos veces se ha usado
+ *
+ * Implemntación (LFU de tiempo constante):
+ * - Una lista doblemente enlazada de "cubetas" de frecuencia, ordenada de
+ *   menor a mayor frecuencia, sin cubetas vacías
+ * - Cada cubeta tiene su propia lista de marcos con esa frecuencia, en el
+ *   orden en que llegaron a ella
+ * - Cargar una página la pone en la cubeta de frecuencia 1
+ * - Usarla la pasa a la cubeta siguiente (la crea si no existe)
+ * - La victima es el primer marco de la primera cubeta: la de menor
+ *   frecuencia y, entre empates, la que lleva más tiempo con esa frecuencia
+ * Todo vive en arreglos de int/long indexados por marco o por cubeta, así que
+ * cargar, usar y evictar es O(1) y no crea objetos.
+ */
+
+public class LFU implements PageReplacementAlgorithm {
+
+    private static final int NIL = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    // --- Marcos ---
+    /** Página de cada marco (null si el algoritmo no lo conoce). */
+    private Page[] pages;
+    /** Cubeta en la que está cada marco. */
+    private int[] frameBucket;
+    private int[] frameNext;
+    private int[] framePrev;
+
+    // --- Cubetas (a lo más una por marco) ---
+    private long[] bucketFrequency;
+    private int[] bucketHead;
+    private int[] bucketTail;
+    private int[] bucketNext;
+    private int[] bucketPrev;
+
+    /** Cubeta de menor frecuencia. */
+    private int firstBucket;
+    /** Pila de cubetas sin usar, enlazadas por bucketNext. */
+    private int freeBuckets;
+
+    private int size;
+
+    public LFU() {
+        this.pages = new Page[0];
+        this.frameBucket = new int[0];
+        this.frameNext = new int[0];
+        this.framePrev = new int[0];
+        this.bucketFrequency = new long[0];
+        this.bucketHead = new int[0];
+        this.bucketTail = new int[0];
+        this.bucketNext = new int[0];
+        this.bucketPrev = new int[0];
+        this.freeBuckets = NIL;
+        ensureCapacity(INITIAL_CAPACITY - 1);
+        reset();
+    }
+
+    @Override
+    public Page selectPageToReplace(List<Page> pagesInRAM) {
+        if (pagesInRAM == null || pagesInRAM.isEmpty()) {
+            return null;
+        }
+
+        if (firstBucket != NIL) {
+            return pages[bucketHead[firstBucket]];
+        }
+
+        // No se avisó ninguna carga: cualquier página sirve
+        for (Page page : pagesInRAM) {
+            if (page != null) {
+                return page;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void onLoad(Page page) {
+        if (page == null || page.getIndexOfPage() < 0) return;
+        int frame = page.getIndexOfPage();
+        ensureCapacity(frame);
+        if (pages[frame] != null) {
+            unlink(frame); // El marco tenía otra página que no se avisó
+        }
+        pages[frame] = page;
+        size++;
+
+        // Entra con frecuencia 1, al final de esa cubeta
+        int bucket = firstBucket;
+        if (bucket == NIL || bucketFrequency[bucket] != 1L) {
+            bucket = newBucket(1L, NIL, firstBucket);
+        }
+        append(bucket, frame);
+    }
+
+    @Override
+    public void onUse(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (frame < 0 || frame >= pages.length || pages[frame] != page) {
+            onLoad(page); // No se avisó su carga
+            return;
+        }
+
+        // Pasar a la cubeta de frecuencia + 1, justo después de la actual
+        int current = frameBucket[frame];
+        long frequency = bucketFrequency[current] + 1;
+        int next = bucketNext[current];
+        if (next == NIL || bucketFrequency[next] != frequency) {
+            next = newBucket(frequency, current, next);
+        }
+        detach(frame);
+        append(next, frame);
+    }
+
+    @Override
+    public void onEvict(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (frame < 0 || frame >= pages.length || pages[frame] != page) return;
+        unlink(frame);
+    }
+
+    /**
+     * @return la frecuencia de la página en ese marco, 0 si no se conoce.
+     */
+    public long getFrequency(int frame) {
+        if (frame < 0 || frame >= pages.length || pages[frame] == null) {
+            return 0L;
+        }
+        return bucketFrequency[frameBucket[frame]];
+    }
+
+    // --- Listas ---
+
+    private void unlink(int frame) {
+        detach(frame);
+        pages[frame] = null;
+        size--;
+    }
+
+    /**
+     * Saca el marco de su cubeta y borra la cubeta si queda vacía.
+     */
+    private void detach(int frame) {
+        int bucket = frameBucket[frame];
+        int prev = framePrev[frame];
+        int next = frameNext[frame];
+        if (prev != NIL) frameNext[prev] = next; else bucketHead[bucket] = next;
+        if (next != NIL) framePrev[next] = prev; else bucketTail[bucket] = prev;
+        frameBucket[frame] = NIL;
+
+        if (bucketHead[bucket] == NIL) {
+            int before = bucketPrev[bucket];
+            int after = bucketNext[bucket];
+            if (before != NIL) bucketNext[before] = after; else firstBucket = after;
+            if (after != NIL) bucketPrev[after] = before;
+            bucketNext[bucket] = freeBuckets;
+            freeBuckets = bucket;
+        }
+    }
+
+    private void append(int bucket, int frame) {
+        int tail = bucketTail[bucket];
+        frameBucket[frame] = bucket;
+        framePrev[frame] = tail;
+        frameNext[frame] = NIL;
+        if (tail != NIL) frameNext[tail] = frame; else bucketHead[bucket] = frame;
+        bucketTail[bucket] = frame;
+    }
+
+    /**
+     * Saca una cubeta de la pila de libres y la enlaza entre before y after.
+     */
+    private int newBucket(long frequency, int before, int after) {
+        int bucket = freeBuckets;
+        freeBuckets = bucketNext[bucket];
+        bucketFrequency[bucket] = frequency;
+        bucketHead[bucket] = NIL;
+        bucketTail[bucket] = NIL;
+        bucketPrev[bucket] = before;
+        bucketNext[bucket] = after;
+        if (before != NIL) bucketNext[before] = bucket; else firstBucket = bucket;
+        if (after != NIL) bucketPrev[after] = bucket;
+        return bucket;
+    }
+
+    /**
+     * Crece los arreglos para que quepa el marco. Hay una cubeta por marco,
+     * más una de sobra para crear la siguiente antes de soltar la actual.
+     */
+    private void ensureCapacity(int frame) {
+        if (frame < 0) {
+            throw new IndexOutOfBoundsException("Índice de marco inválido: " + frame);
+        }
+        if (frame < pages.length) {
+            return;
+        }
+        int oldLength = pages.length;
+        int newLength = Math.max(oldLength * 2, frame + 1);
+        pages = Arrays.copyOf(pages, newLength);
+        frameBucket = Arrays.copyOf(frameBucket, newLength);
+        frameNext = Arrays.copyOf(frameNext, newLength);
+        framePrev = Arrays.copyOf(framePrev, newLength);
+
+        int oldBuckets = bucketFrequency.length;
+        int newBuckets = newLength + 1;
+        bucketFrequency = Arrays.copyOf(bucketFrequency, newBuckets);
+        bucketHead = Arrays.copyOf(bucketHead, newBuckets);
+        bucketTail = Arrays.copyOf(bucketTail, newBuckets);
+        bucketNext = Arrays.copyOf(bucketNext, newBuckets);
+        bucketPrev = Arrays.copyOf(bucketPrev, newBuckets);
+        for (int bucket = newBuckets - 1; bucket >= oldBuckets; bucket--) {
+            bucketNext[bucket] = freeBuckets;
+            freeBuckets = bucket;
+        }
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(pages, null);
+        Arrays.fill(frameBucket, NIL);
+        this.freeBuckets = NIL;
+        for (int bucket = bucketNext.length - 1; bucket >= 0; bucket--) {
+            bucketNext[bucket] = freeBuckets;
+            freeBuckets = bucket;
+        }
+        this.firstBucket = NIL;
+        this.size = 0;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "LFU";
+    }
+
+    @Override
+    public String getDetailedState() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== LFU - Estado Actual ===\n");
+        sb.append("Páginas rastreadas: ").append(size).append("\n");
+
+        if (size > 0) {
+            sb.append("\nCubetas (menor frecuencia primero):\n");
+            for (int bucket = firstBucket; bucket != NIL; bucket = bucketNext[bucket]) {
+                sb.append(String.format("  Frecuencia %d:", bucketFrequency[bucket]));
+                for (int frame = bucketHead[bucket]; frame != NIL; frame = frameNext[frame]) {
+                    sb.append(" Page ").append(pages[frame].getId());
+                }
+                sb.append("\n");
+            }
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        int buckets = 0;
+        for (int bucket = firstBucket; bucket != NIL; bucket = bucketNext[bucket]) {
+            buckets++;
+        }
+        return String.format("LFU[páginas=%d, cubetas=%d]", size, buckets);
+    }
+}
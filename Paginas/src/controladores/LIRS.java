@@ -0,0 +1,369 @@
+package controladores;
+
+import modelos.Computer;
+import modelos.IntIntMap;
+import modelos.Page;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Algoritmo LIRS (Low Inter-reference Recency Set)
+ * Decide usando la distancia entre dos usos de una misma página (IRR), no
+ * solo el último uso: las páginas que se reusan seguido (LIR) se quedan en
+ * RAM, las demás (HIR) ocupan unos pocos marcos y son las víctimas.
+ *
+ * Funcionamiento:
+ * - Pila S: páginas LIR, HIR residentes y HIR no residentes, por recencia.
+ *   El fondo de S siempre es una LIR (se poda lo que quede debajo)
+ * - Cola Q: las HIR residentes. La víctima es la primera de Q
+ * - Una HIR que se usa estando todavía en S tiene un IRR menor que el de
+ *   la LIR del fondo: pasa a LIR y la LIR del fondo baja a HIR (al final de Q)
+ * - Una página que falla y se recordaba en S entra directo como LIR
+ * - Casi toda la RAM es para LIR; solo L_hirs (1%, mínimo 1) para HIR
+ * Con un ciclo de usos más grande que la RAM (un proceso que recorre más
+ * punteros de los que caben), FIFO/SC/LRU fallan siempre; LIRS deja fijas
+ * las LIR y solo falla en la parte HIR del ciclo.
+ *
+ * Implemntación:
+ * - Cada página conocida es un nodo de un pool (arreglos indexados por
+ *   nodo) y un IntIntMap va de id de página a nodo
+ * - S, Q y el historial de no residentes son listas intrusivas (FrameList)
+ *   enlazadas por índice de nodo: todo es O(1) salvo la poda, que en total
+ *   cuesta lo mismo que lo que se apiló
+ * - Las HIR no residentes son a lo más tantas como marcos: al pasarse se
+ *   olvida la más vieja, así la memoria de metadatos es proporcional a
+ *   Computer.getAmountOfPagesInRAM()
+ */
+
+public class LIRS implements PageReplacementAlgorithm {
+
+    private static final byte LIR = 1;
+    private static final byte HIR_RESIDENT = 2;
+    private static final byte HIR_NON_RESIDENT = 3;
+
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    // --- Pool de nodos ---
+    private int[] nodePageId;
+    private byte[] nodeStatus;
+    private int[] freeNodes;
+    private int freeCount;
+    private int nodesUsed;
+    /** id de página -> nodo. */
+    private final IntIntMap nodeById;
+
+    /** Pila S: inicio = fondo (menos reciente), final = tope. */
+    private final FrameList stack;
+    /** Cola Q de HIR residentes: inicio = próxima víctima. */
+    private final FrameList hirQueue;
+    /** HIR no residentes en el orden en que salieron de RAM. */
+    private final FrameList nonResident;
+
+    private int lirCount;
+    /** Cantidad de marcos. */
+    private int capacity;
+    private boolean capacityFixed;
+
+    public LIRS() {
+        this.nodePageId = new int[INITIAL_CAPACITY];
+        this.nodeStatus = new byte[INITIAL_CAPACITY];
+        this.freeNodes = new int[INITIAL_CAPACITY];
+        this.nodeById = new IntIntMap();
+        this.stack = new FrameList();
+        this.hirQueue = new FrameList();
+        this.nonResident = new FrameList();
+        reset();
+    }
+
+    @Override
+    public void attach(Computer computer) {
+        this.capacity = computer.getAmountOfPagesInRAM();
+        this.capacityFixed = true;
+    }
+
+    @Override
+    public Page selectPageToReplace(List<Page> pagesInRAM) {
+        if (pagesInRAM == null || pagesInRAM.isEmpty()) {
+            return null;
+        }
+
+        int node = hirQueue.first();
+        if (node != NONE) {
+            return hirQueue.getPage(node);
+        }
+        // Sin HIR residentes (todo es LIR): sale la LIR del fondo de S
+        node = stack.first();
+        if (node != NONE) {
+            return stack.getPage(node);
+        }
+
+        // No se avisó ninguna carga: cualquier página sirve
+        for (Page page : pagesInRAM) {
+            if (page != null) {
+                return page;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void onLoad(Page page) {
+        if (page == null || page.getIndexOfPage() < 0) return;
+        int id = page.getId();
+        int node = nodeById.get(id, NONE);
+        if (!capacityFixed) {
+            capacity = Math.max(capacity, residentCount() + 1);
+        }
+
+        if (node != NONE && nodeStatus[node] != HIR_NON_RESIDENT) {
+            onUse(page); // Ya era residente
+            return;
+        }
+
+        if (node == NONE) {
+            node = newNode(id);
+            if (lirCount < lirLimit()) {
+                // Mientras sobre espacio para LIR, toda página nueva es LIR
+                nodeStatus[node] = LIR;
+                lirCount++;
+                stack.addLast(node, page);
+            } else {
+                nodeStatus[node] = HIR_RESIDENT;
+                stack.addLast(node, page);
+                hirQueue.addLast(node, page);
+            }
+        } else {
+            // Se recordaba en S: su IRR es corto, entra como LIR
+            nonResident.remove(node);
+            nodeStatus[node] = LIR;
+            lirCount++;
+            stack.addLast(node, page);
+            balanceLir();
+        }
+    }
+
+    @Override
+    public void onUse(Page page) {
+        if (page == null) return;
+        int node = nodeById.get(page.getId(), NONE);
+        if (node == NONE || nodeStatus[node] == HIR_NON_RESIDENT) {
+            onLoad(page); // No se avisó su carga
+            return;
+        }
+
+        if (nodeStatus[node] == LIR) {
+            boolean wasBottom = stack.first() == node;
+            stack.addLast(node, page);
+            if (wasBottom) {
+                prune();
+            }
+        } else if (stack.contains(node)) {
+            // HIR que seguía en S: pasa a LIR, la LIR del fondo baja a HIR
+            hirQueue.remove(node);
+            nodeStatus[node] = LIR;
+            lirCount++;
+            stack.addLast(node, page);
+            balanceLir();
+        } else {
+            // HIR que ya no estaba en S: vuelve a S y al final de Q
+            stack.addLast(node, page);
+            hirQueue.addLast(node, page);
+        }
+    }
+
+    @Override
+    public void onEvict(Page page) {
+        if (page == null) return;
+        int node = nodeById.get(page.getId(), NONE);
+        if (node == NONE || nodeStatus[node] == HIR_NON_RESIDENT) return;
+
+        if (nodeStatus[node] == LIR) {
+            // Solo pasa con un delete o si no había HIR residentes
+            lirCount--;
+            boolean wasBottom = stack.first() == node;
+            stack.remove(node);
+            freeNode(node);
+            if (wasBottom) {
+                prune();
+            }
+            return;
+        }
+
+        hirQueue.remove(node);
+        if (stack.contains(node)) {
+            // Se queda en S como no residente (sin el objeto Page)
+            nodeStatus[node] = HIR_NON_RESIDENT;
+            stack.setPage(node, null);
+            nonResident.addLast(node, null);
+            if (nonResident.size() > capacity) {
+                forgetOldestNonResident();
+            }
+        } else {
+            freeNode(node);
+        }
+    }
+
+    @Override
+    public void onFree(int ptr, List<Page> pages) {
+        // Los ids se van a reutilizar: olvidar las no residentes de este ptr
+        for (Page page : pages) {
+            int node = nodeById.get(page.getId(), NONE);
+            if (node != NONE && nodeStatus[node] == HIR_NON_RESIDENT) {
+                nonResident.remove(node);
+                boolean wasBottom = stack.first() == node;
+                stack.remove(node);
+                freeNode(node);
+                if (wasBottom) {
+                    prune();
+                }
+            }
+        }
+    }
+
+    /**
+     * Si hay más LIR que su cuota, la LIR del fondo de S baja a HIR
+     * residente (al final de Q) y se poda S.
+     */
+    private void balanceLir() {
+        while (lirCount > lirLimit()) {
+            int bottom = stack.first();
+            Page page = stack.getPage(bottom);
+            nodeStatus[bottom] = HIR_RESIDENT;
+            lirCount--;
+            stack.remove(bottom);
+            hirQueue.addLast(bottom, page);
+            prune();
+        }
+    }
+
+    /**
+     * Saca del fondo de S todo lo que no sea LIR. Las no residentes que
+     * salen de S se olvidan; las HIR residentes siguen en Q.
+     */
+    private void prune() {
+        int bottom = stack.first();
+        while (bottom != NONE && nodeStatus[bottom] != LIR) {
+            stack.remove(bottom);
+            if (nodeStatus[bottom] == HIR_NON_RESIDENT) {
+                nonResident.remove(bottom);
+                freeNode(bottom);
+            }
+            bottom = stack.first();
+        }
+    }
+
+    private void forgetOldestNonResident() {
+        int oldest = nonResident.first();
+        nonResident.remove(oldest);
+        boolean wasBottom = stack.first() == oldest;
+        stack.remove(oldest);
+        freeNode(oldest);
+        if (wasBottom) {
+            prune();
+        }
+    }
+
+    private int lirLimit() {
+        int hirLimit = Math.max(1, capacity / 100);
+        return Math.max(capacity - hirLimit, 1);
+    }
+
+    private int residentCount() {
+        return lirCount + hirQueue.size();
+    }
+
+    // --- Pool de nodos ---
+
+    private int newNode(int id) {
+        int node;
+        if (freeCount > 0) {
+            node = freeNodes[--freeCount];
+        } else {
+            if (nodesUsed == nodePageId.length) {
+                int newLength = nodePageId.length * 2;
+                nodePageId = Arrays.copyOf(nodePageId, newLength);
+                nodeStatus = Arrays.copyOf(nodeStatus, newLength);
+                freeNodes = Arrays.copyOf(freeNodes, newLength);
+            }
+            node = nodesUsed++;
+        }
+        nodePageId[node] = id;
+        nodeById.put(id, node);
+        return node;
+    }
+
+    private void freeNode(int node) {
+        nodeById.remove(nodePageId[node]);
+        nodeStatus[node] = 0;
+        freeNodes[freeCount++] = node;
+    }
+
+    public int getLirCount() {
+        return lirCount;
+    }
+
+    public int getHirResidentCount() {
+        return hirQueue.size();
+    }
+
+    /**
+     * @return cuántas HIR no residentes se recuerdan (a lo más los marcos).
+     */
+    public int getNonResidentCount() {
+        return nonResident.size();
+    }
+
+    @Override
+    public void reset() {
+        nodeById.clear();
+        stack.clear();
+        hirQueue.clear();
+        nonResident.clear();
+        Arrays.fill(nodeStatus, (byte) 0);
+        this.freeCount = 0;
+        this.nodesUsed = 0;
+        this.lirCount = 0;
+        if (!capacityFixed) {
+            this.capacity = 0;
+        }
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "LIRS";
+    }
+
+    @Override
+    public String getDetailedState() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== LIRS - Estado Actual ===\n");
+        sb.append("Marcos: ").append(capacity).append(" (LIR máx. ").append(lirLimit()).append(")\n");
+        sb.append(String.format("LIR=%d HIR residentes=%d HIR no residentes=%d\n",
+            lirCount, hirQueue.size(), nonResident.size()));
+
+        if (!stack.isEmpty()) {
+            sb.append("\nPila S (fondo primero):");
+            for (int node = stack.first(); node != NONE; node = stack.next(node)) {
+                String estado = nodeStatus[node] == LIR ? "LIR" : (nodeStatus[node] == HIR_RESIDENT ? "HIR" : "HIR-nr");
+                sb.append(" ").append(nodePageId[node]).append("(").append(estado).append(")");
+            }
+            sb.append("\n");
+        }
+        if (!hirQueue.isEmpty()) {
+            sb.append("Cola Q (próxima víctima primero):");
+            for (int node = hirQueue.first(); node != NONE; node = hirQueue.next(node)) {
+                sb.append(" Page ").append(nodePageId[node]);
+            }
+            sb.append("\n");
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LIRS[LIR=%d, HIR=%d, no residentes=%d]",
+            lirCount, hirQueue.size(), nonResident.size());
+    }
+}
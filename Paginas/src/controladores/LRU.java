@@ -0,0 +1,140 @@
+package controladores;
+
+import modelos.Page;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Algoritmo LRU (Least Recently Used)
+ * Reemplaza la página que lleva más tiempo sin usarse en RAM
+ *
+ * Implemntación:
+ * - Una lista de recencia con los marcos residentes (FrameList):
+ *   el inicio es la página menos reciente, el final la más reciente
+ * - Cargar o usar una página la mueve al final
+ * - La victima es la página del inicio
+ * La lista se enlaza por índice de marco (que es único mientras la página
+ * está en RAM), así que no hay hash de por medio y todo es O(1).
+ */
+
+public class LRU implements PageReplacementAlgorithm {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Lista de recencia: inicio = menos reciente, final = más reciente.
+     * Se enlaza por índice de marco.
+     */
+    private final FrameList recencyList;
+
+    /**
+     * Último uso de cada marco (para mostrar el estado).
+     */
+    private long[] lastUsedTimestamps;
+
+    /**
+     * Contador global que se incrementa con cada carga o uso.
+     */
+    private long globalCounter;
+
+    public LRU() {
+        this.recencyList = new FrameList();
+        this.lastUsedTimestamps = new long[INITIAL_CAPACITY];
+        this.globalCounter = 0;
+    }
+
+    @Override
+    public Page selectPageToReplace(List<Page> pagesInRAM) {
+        if (pagesInRAM == null || pagesInRAM.isEmpty()) {
+            return null;
+        }
+
+        int leastRecent = recencyList.first();
+        if (leastRecent != FrameList.NIL) {
+            return recencyList.getPage(leastRecent);
+        }
+
+        // No se avisó ninguna carga: cualquier página sirve
+        for (Page page : pagesInRAM) {
+            if (page != null) {
+                return page;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void onLoad(Page page) {
+        if (page == null || page.getIndexOfPage() < 0) return;
+        // Cuando se carga, pasa a ser la más reciente
+        recencyList.addLast(page.getIndexOfPage(), page);
+        touch(page.getIndexOfPage());
+    }
+
+    @Override
+    public void onUse(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (recencyList.getPage(frame) != page) {
+            onLoad(page); // No se avisó su carga
+            return;
+        }
+        // Al usarla, mover al final de la lista
+        recencyList.moveToLast(frame);
+        touch(frame);
+    }
+
+    @Override
+    public void onEvict(Page page) {
+        if (page == null) return;
+        // Desenlazar su marco
+        int frame = page.getIndexOfPage();
+        if (recencyList.getPage(frame) == page) {
+            recencyList.remove(frame);
+        }
+    }
+
+    private void touch(int frame) {
+        if (frame >= lastUsedTimestamps.length) {
+            lastUsedTimestamps = Arrays.copyOf(lastUsedTimestamps,
+                    Math.max(lastUsedTimestamps.length * 2, frame + 1));
+        }
+        lastUsedTimestamps[frame] = globalCounter++;
+    }
+
+    @Override
+    public void reset() {
+        this.recencyList.clear();
+        Arrays.fill(lastUsedTimestamps, 0L);
+        this.globalCounter = 0;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "LRU";
+    }
+
+    @Override
+    public String getDetailedState() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== LRU - Estado Actual ===\n");
+        sb.append("Contador Global: ").append(globalCounter).append("\n");
+        sb.append("Páginas rastreadas: ").append(recencyList.size()).append("\n");
+
+        if (!recencyList.isEmpty()) {
+            sb.append("\nÚltimo uso (menos reciente primero):\n");
+            for (int frame = recencyList.first(); frame != FrameList.NIL; frame = recencyList.next(frame)) {
+                sb.append(String.format("  Page %d: último uso en t=%d\n",
+                    recencyList.getPage(frame).getId(), lastUsedTimestamps[frame]));
+            }
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LRU[páginas=%d, contador=%d]",
+            recencyList.size(), globalCounter);
+    }
+}
@@ -0,0 +1,51 @@
+package controladores;
+
+/**
+ * Puente entre el método viejo updateMetadata(Page, String) y los on...
+ * de PageReplacementAlgorithm.
+ *
+ * Los dos lados tienen implementación por defecto que llama al otro, así
+ * que un algoritmo que no implementa ninguno de los dos para un evento se
+ * llamaría a sí mismo para siempre. Mientras el updateMetadata por defecto
+ * reparte un evento, este hilo recuerda qué algoritmo lo está haciendo; si
+ * ese mismo evento vuelve a updateMetadata, el algoritmo no lo maneja.
+ */
+final class LegacyEvents {
+
+    /** Algoritmo cuyo updateMetadata por defecto está repartiendo un evento. */
+    private static final ThreadLocal<PageReplacementAlgorithm> DISPATCHING = new ThreadLocal<>();
+
+    private LegacyEvents() {
+    }
+
+    /**
+     * Marca que el updateMetadata por defecto del algoritmo empieza a
+     * repartir un evento.
+     * @return lo que había antes, para devolverlo con exit.
+     */
+    static PageReplacementAlgorithm enter(PageReplacementAlgorithm algorithm) {
+        PageReplacementAlgorithm previous = DISPATCHING.get();
+        DISPATCHING.set(algorithm);
+        return previous;
+    }
+
+    static void exit(PageReplacementAlgorithm previous) {
+        if (previous == null) {
+            DISPATCHING.remove();
+        } else {
+            DISPATCHING.set(previous);
+        }
+    }
+
+    /**
+     * Lo llaman los on... por defecto antes de pasar el evento al método viejo.
+     * @throws IllegalStateException si el evento viene del updateMetadata por
+     * defecto del mismo algoritmo (no implementa ninguno de los dos).
+     */
+    static void checkNotDispatching(PageReplacementAlgorithm algorithm, String event) {
+        if (DISPATCHING.get() == algorithm) {
+            throw new IllegalStateException(algorithm.getAlgorithmName() + " no maneja el evento '" + event
+                    + "': debe implementar su método on... o updateMetadata(Page, String).");
+        }
+    }
+}
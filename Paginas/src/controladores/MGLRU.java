@@ -0,0 +1,221 @@
+package controladores;
+
+import modelos.Page;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Algoritmo MGLRU (Multi-Generational LRU)
+ * Versión simplificada del LRU multigeneracional de Linux: en vez de una
+ * lista de recencia exacta, las páginas se agrupan en unas pocas
+ * generaciones y se desaloja de la más vieja.
+ *
+ * Funcionamiento:
+ * - Las generaciones son números de secuencia entre minSeq (la más vieja)
+ *   y maxSeq (la más joven); hay a lo más MAX_GENERATIONS
+ * - Usar una página solo le anota maxSeq como su generación (la promueve
+ *   sin tocar ninguna lista)
+ * - Una página que falla entra en la penúltima generación, como las
+ *   anónimas en Linux: una página usada después de cargarse queda por
+ *   encima de las recién cargadas
+ * - Para desalojar se toma la lista de la generación más vieja. Si la
+ *   primera página tiene una generación más nueva (se usó), recién ahí se
+ *   pasa a la lista de esa generación; si no, es la víctima
+ * - La lista más vieja vacía se descarta (minSeq avanza) y se envejece:
+ *   maxSeq avanza y todas las páginas pasan a ser una generación más
+ *   viejas sin recorrerlas
+ *
+ * Implemntación:
+ * - Un long[] con la generación de cada marco: usar una página es una
+ *   escritura en ese arreglo
+ * - Una FrameList por generación (índice seq % MAX_GENERATIONS). Las
+ *   páginas solo se mueven de lista al pasar por el desalojo, O(1) cada una
+ */
+
+public class MGLRU implements PageReplacementAlgorithm {
+
+    /** Como en Linux (MAX_NR_GENS). */
+    public static final int MAX_GENERATIONS = 4;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Una lista por generación; una página está en una sola. */
+    private final FrameList[] generations;
+
+    /** Generación anotada a cada marco. */
+    private long[] stamps;
+
+    private long minSeq;
+    private long maxSeq;
+    private int size;
+
+    /** Cuántas veces se envejeció (avanzó maxSeq). */
+    private long agings;
+
+    public MGLRU() {
+        this.generations = new FrameList[MAX_GENERATIONS];
+        for (int i = 0; i < MAX_GENERATIONS; i++) {
+            generations[i] = new FrameList();
+        }
+        this.stamps = new long[INITIAL_CAPACITY];
+        reset();
+    }
+
+    @Override
+    public Page selectPageToReplace(List<Page> pagesInRAM) {
+        if (pagesInRAM == null || pagesInRAM.isEmpty()) {
+            return null;
+        }
+
+        if (size == 0) {
+            // No se avisó ninguna carga: cualquier página sirve
+            for (Page page : pagesInRAM) {
+                if (page != null) {
+                    return page;
+                }
+            }
+            return null;
+        }
+
+        // Cada vuelta mueve una página a una generación más nueva o
+        // descarta la generación más vieja, así que termina
+        while (true) {
+            if (maxSeq - minSeq + 1 < MAX_GENERATIONS) {
+                maxSeq++; // Envejecer
+                agings++;
+            }
+            FrameList oldest = list(minSeq);
+            int frame = oldest.first();
+            if (frame == FrameList.NIL) {
+                minSeq++;
+                continue;
+            }
+            if (stamps[frame] > minSeq) {
+                // Se usó: recién ahora pasa a la lista de su generación
+                Page page = oldest.getPage(frame);
+                oldest.remove(frame);
+                list(stamps[frame]).addLast(frame, page);
+                continue;
+            }
+            return oldest.getPage(frame);
+        }
+    }
+
+    @Override
+    public void onLoad(Page page) {
+        if (page == null || page.getIndexOfPage() < 0) return;
+        int frame = page.getIndexOfPage();
+        ensureCapacity(frame);
+        if (!unlink(frame)) {
+            size++;
+        }
+        long seq = Math.max(minSeq, maxSeq - 1);
+        stamps[frame] = seq;
+        list(seq).addLast(frame, page);
+    }
+
+    @Override
+    public void onUse(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (frame < 0 || frame >= stamps.length) return;
+        stamps[frame] = maxSeq;
+    }
+
+    @Override
+    public void onEvict(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (frame < 0 || frame >= stamps.length) return;
+        if (unlink(frame)) {
+            size--;
+        }
+    }
+
+    /**
+     * Saca el marco de la lista en la que esté.
+     * @return true si estaba en alguna.
+     */
+    private boolean unlink(int frame) {
+        for (FrameList generation : generations) {
+            if (generation.remove(frame)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private FrameList list(long seq) {
+        return generations[(int) (seq % MAX_GENERATIONS)];
+    }
+
+    /**
+     * @return cuántas generaciones hay ahora (de minSeq a maxSeq).
+     */
+    public int getGenerationCount() {
+        return (int) (maxSeq - minSeq + 1);
+    }
+
+    /**
+     * @return la generación anotada al marco (solo tiene sentido si el marco
+     * tiene una página).
+     */
+    public long getGeneration(int frame) {
+        if (frame < 0 || frame >= stamps.length) {
+            return 0L;
+        }
+        return stamps[frame];
+    }
+
+    private void ensureCapacity(int frame) {
+        if (frame < stamps.length) {
+            return;
+        }
+        stamps = Arrays.copyOf(stamps, Math.max(stamps.length * 2, frame + 1));
+    }
+
+    @Override
+    public void reset() {
+        for (FrameList generation : generations) {
+            generation.clear();
+        }
+        Arrays.fill(stamps, 0L);
+        this.minSeq = 0;
+        this.maxSeq = MAX_GENERATIONS - 1;
+        this.size = 0;
+        this.agings = 0;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "MGLRU";
+    }
+
+    @Override
+    public String getDetailedState() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== MGLRU - Estado Actual ===\n");
+        sb.append(String.format("Generaciones: %d..%d (%d), envejecimientos: %d\n",
+            minSeq, maxSeq, getGenerationCount(), agings));
+        sb.append("Páginas rastreadas: ").append(size).append("\n");
+
+        if (size > 0) {
+            sb.append("\nListas (la más vieja primero; entre paréntesis la generación anotada):\n");
+            for (long seq = minSeq; seq <= maxSeq; seq++) {
+                FrameList generation = list(seq);
+                sb.append("  Gen ").append(seq).append(":");
+                for (int frame = generation.first(); frame != FrameList.NIL; frame = generation.next(frame)) {
+                    sb.append(" ").append(generation.getPage(frame).getId()).append("(").append(stamps[frame]).append(")");
+                }
+                sb.append("\n");
+            }
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MGLRU[páginas=%d, gen=%d..%d]", size, minSeq, maxSeq);
+    }
+}
@@ -7,10 +7,10 @@ package controladores;
 import modelos.*;
 import modelos.Process; // Importa su clase Process
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * @author wess
@@ -24,7 +24,12 @@ public class MMU {
     // --- Componentes del Modelo ---
     private Computer computer;
     private SymbolTable symbolTable; // El mapa de memoria GLOBAL (ptr -> List<Page>)
+    private PageIdAllocator pageIds; // Id único y denso para cada página
     private Map<Integer, Process> processMap; // Mapa de PID -> Objeto Process
+    private IntSet killedPids; // Procesos que ESTA MMU ya terminó
+    // Punteros vivos de cada PID en ESTA MMU. Los Process se comparten entre la
+    // MMU de OPT y la del usuario, así que su tabla no sirve para el 'kill'.
+    private IntObjectMap<IntSet> pointersByPid;
 
     // --- Algoritmo de Paginación ---
     private PageReplacementAlgorithm algorithm;
@@ -32,20 +37,31 @@ public class MMU {
     // --- Estadísticas de Simulación ---
     private long totalTime;
     private long thrashingTime;
+    private int activeProcessCount; // Se actualiza en kill, no se recorre el mapa
     
     // Constantes de tiempo del PDF
     private static final int TIME_HIT = 1;      // 1s por hit de página
     private static final int TIME_FAULT = 5;    // 5s por fallo de página
-    private static final int PAGE_SIZE_BYTES = 4096; // 4KB por página
 
     /**
      * Constructor para una instancia de simulación.
-     * @param algorithm El algoritmo de paginación a utilizar (FIFO, SC, MRU, RND).
+     * @param algorithm El algoritmo de paginación a utilizar (FIFO, SC, MRU, LRU, RND).
      * @param processes La lista de todos los procesos que participarán en la simulación.
      */
     public MMU(PageReplacementAlgorithm algorithm, List<Process> processes) {
-        this.computer = new Computer(); // Crea el hardware (400KB RAM, 100 marcos)
+        this(algorithm, processes, ComputerConfig.defaults()); // 400KB RAM, 100 marcos
+    }
+
+    /**
+     * Constructor con una geometría de máquina específica.
+     * @param algorithm El algoritmo de paginación a utilizar.
+     * @param processes La lista de todos los procesos que participarán en la simulación.
+     * @param config Tamaño de RAM y de página (el mismo para todas las MMUs de la simulación).
+     */
+    public MMU(PageReplacementAlgorithm algorithm, List<Process> processes, ComputerConfig config) {
+        this.computer = new Computer(config); // Crea el hardware
         this.symbolTable = new SymbolTable();
+        this.pageIds = new PageIdAllocator();
         this.algorithm = algorithm;
         this.totalTime = 0;
         this.thrashingTime = 0;
@@ -57,6 +73,10 @@ public class MMU {
                 this.processMap.put(p.getPid(), p);
             }
         }
+        this.killedPids = new IntSet();
+        this.pointersByPid = new IntObjectMap<>();
+        this.activeProcessCount = processMap.size();
+        algorithm.attach(computer);
     }
 
     /**
@@ -81,6 +101,11 @@ public class MMU {
         
         // Actualiza el tiempo total
         this.totalTime += instructionTime;
+        algorithm.onTimeAdvanced(totalTime);
+        algorithm.onInstructionExecuted(inst);
+        
+        // Solo corre con -ea, recorre toda la RAM
+        assert computer.checkInvariants();
         return instructionTime;
     }
     
@@ -100,48 +125,24 @@ private long executeNew(New inst) {
             return 0;
         }
         
-        int pagesNeeded = inst.calcularPaginasNecesarias(PAGE_SIZE_BYTES);
-        List<Page> newPages = new ArrayList<>();
+        int pageSizeBytes = computer.getPageSizeInBytes();
+        int pagesNeeded = inst.calcularPaginasNecesarias(pageSizeBytes);
+        List<Page> newPages = new ArrayList<>(pagesNeeded);
 
         for (int i = 0; i < pagesNeeded; i++) {
-            // Usamos el PID en el constructor de Page
-            Page newPage = new Page(pid, -1, false, 0); 
+            // Cada página tiene su propio id, el PID va como dueño
+            Page newPage = new Page(pageIds.allocate(), pid, -1, false, 0);
             newPages.add(newPage);
 
-            int freeFrameIndex = computer.findFreeFrameInRam();
-            
-            if (freeFrameIndex == -1) {
-                // --- FALLO DE PÁGINA (RAM LLENA) ---
-                timeElapsed += TIME_FAULT;
-                this.thrashingTime += TIME_FAULT;
-                
-                Page victimPage = algorithm.selectPageToReplace(computer.getRam());
-                if (victimPage == null) {
-                    throw new RuntimeException("RAM está llena pero el algoritmo no seleccionó víctima.");
-                }
-
-                int victimFrameIndex = victimPage.getIndexOfPage();
-                computer.sendPageToDisk(victimFrameIndex);
-                algorithm.updateMetadata(victimPage, "evict");
-                
-                computer.placePageInMemory(newPage, victimFrameIndex);
-                algorithm.updateMetadata(newPage, "load");
-
-            } else {
-                // --- HIT DE PÁGINA (ESPACIO DISPONIBLE) ---
-                timeElapsed += TIME_HIT;
-                computer.placePageInMemory(newPage, freeFrameIndex);
-                algorithm.updateMetadata(newPage, "load");
-            }
-
-            // Asignar fragmentación interna (solo a la última página)
+            // Asignar fragmentación interna (solo a la última página).
+            // Va antes de colocarla: Computer suma la fragmentación al colocar.
             if (i == pagesNeeded - 1) {
-                int bytesInLastPage = size % PAGE_SIZE_BYTES;
+                int bytesInLastPage = size % pageSizeBytes;
                 if (bytesInLastPage > 0 && bytesInLastPage != size) {
-                    int fragmentation = PAGE_SIZE_BYTES - bytesInLastPage;
+                    int fragmentation = pageSizeBytes - bytesInLastPage;
                     newPage.setFragmentationInBytes(fragmentation);
-                } else if (size < PAGE_SIZE_BYTES) {
-                     int fragmentation = PAGE_SIZE_BYTES - size;
+                } else if (size < pageSizeBytes) {
+                     int fragmentation = pageSizeBytes - size;
                     newPage.setFragmentationInBytes(fragmentation);
                 }
             }
@@ -150,23 +151,57 @@ private long executeNew(New inst) {
         // Registrar en ambas tablas de símbolos
         int newPtr = symbolTable.registerNewPointer(newPages);
         currentProcess.registerPointer(newPtr); // Rastrear en el proceso
+        IntSet ownedPointers = pointersByPid.get(pid);
+        if (ownedPointers == null) {
+            ownedPointers = new IntSet();
+            pointersByPid.put(pid, ownedPointers);
+        }
+        ownedPointers.add(newPtr);
         
         inst.setPtrAsignado(newPtr); // Para logging
 
-        // --- INICIO DEL FIX: Registrar el mapeo de ptr a pageIds en OPT ---
-        if (algorithm instanceof OPT) {
-            // 1. Extraer solo los IDs de página
-            List<Integer> pageIds = newPages.stream()
-                                            .map(Page::getId)
-                                            .collect(Collectors.toList());
-            // 2. Registrar en la instancia del algoritmo OPT
-            ((OPT) algorithm).registerPtrToPages(newPtr, pageIds);
+        // El algoritmo conoce el puntero antes de que sus páginas entren a RAM
+        // (OPT lo necesita para saber cuándo se usarán)
+        algorithm.onAllocate(newPtr, newPages);
+
+        for (Page newPage : newPages) {
+            algorithm.onMiss(newPage);
+            int freeFrameIndex = computer.findFreeFrameInRam();
+            
+            if (freeFrameIndex == -1) {
+                // --- FALLO DE PÁGINA (RAM LLENA) ---
+                timeElapsed += TIME_FAULT;
+                this.thrashingTime += TIME_FAULT;
+                
+                freeFrameIndex = evictVictim();
+            } else {
+                // --- HIT DE PÁGINA (ESPACIO DISPONIBLE) ---
+                timeElapsed += TIME_HIT;
+            }
+            computer.placePageInMemory(newPage, freeFrameIndex);
+            algorithm.onLoad(newPage);
         }
-        // --- FIN DEL FIX ---
 
         return timeElapsed;
     }
 
+    /**
+     * Pide una víctima al algoritmo y la manda al disco. El algoritmo se
+     * entera con onEvict antes de que el marco se libere.
+     * @return El marco que quedó libre.
+     */
+    private int evictVictim() {
+        Page victimPage = algorithm.selectPageToReplace(computer.getRam());
+        if (victimPage == null || !computer.isPageInRam(victimPage)) {
+            throw new RuntimeException("RAM está llena pero el algoritmo no seleccionó una víctima en RAM.");
+        }
+
+        int victimFrameIndex = victimPage.getIndexOfPage();
+        algorithm.onEvict(victimPage);
+        computer.sendPageToDisk(victimFrameIndex);
+        return victimFrameIndex;
+    }
+
     /**
      * Ejecuta una instrucción 'use(ptr)'.
      */
@@ -185,35 +220,27 @@ private long executeNew(New inst) {
             if (computer.isPageInRam(page)) {
                 // --- HIT DE PÁGINA ---
                 timeElapsed += TIME_HIT;
-                algorithm.updateMetadata(page, "use");
+                algorithm.onUse(page);
 
             } else {
                 // --- FALLO DE PÁGINA (PÁGINA EN DISCO) ---
                 timeElapsed += TIME_FAULT;
                 this.thrashingTime += TIME_FAULT;
 
+                algorithm.onMiss(page);
                 int freeFrameIndex = computer.findFreeFrameInRam();
                 
                 if (freeFrameIndex == -1) {
                     // RAM llena, seleccionar víctima
-                    Page victimPage = algorithm.selectPageToReplace(computer.getRam());
-                    int victimFrameIndex = victimPage.getIndexOfPage();
-                    
-                    computer.sendPageToDisk(victimFrameIndex);
-                    algorithm.updateMetadata(victimPage, "evict");
-                    freeFrameIndex = victimFrameIndex;
+                    freeFrameIndex = evictVictim();
                 }
                 
                 // "Swap-In" (Mover página del Disco a la RAM)
-                computer.getDisk().remove(page); // Quitar de V-RAM
+                computer.removePageFromDisk(page); // Quitar de V-RAM (por su slot)
                 computer.placePageInMemory(page, freeFrameIndex); // Poner en RAM
-                algorithm.updateMetadata(page, "load"); 
+                algorithm.onLoad(page);
             }
         }
-        
-        if (algorithm instanceof OPT) {
-            ((OPT) algorithm).advanceInstructionIndex();
-        }
 
         return timeElapsed;
     }
@@ -237,16 +264,26 @@ private long executeNew(New inst) {
         if (currentProcess != null) {
             currentProcess.removePointer(ptr);
         }
+        IntSet ownedPointers = pointersByPid.get(inst.getPid());
+        if (ownedPointers != null) {
+            ownedPointers.remove(ptr);
+        }
 
         // 3. Liberar cada página
         for (Page page : pagesToFree) {
             if (page.isIsInVirtualMemory()) {
-                computer.getDisk().remove(page);
-            } else if (page.getIndexOfPage() >= 0) {
-                computer.getRam().set(page.getIndexOfPage(), null); // Liberar el marco
+                computer.removePageFromDisk(page);
+            } else if (computer.isPageInRam(page)) {
+                // Notificar al algoritmo antes de liberar el marco
+                algorithm.onEvict(page);
+                computer.releaseFrame(page.getIndexOfPage()); // Liberar el marco
             }
-            // Notificar al algoritmo que la página fue "evictada" del sistema
-            algorithm.updateMetadata(page, "evict");
+        }
+        algorithm.onFree(ptr, pagesToFree);
+
+        // Ya nadie conoce estos ids, se pueden reutilizar
+        for (Page page : pagesToFree) {
+            pageIds.release(page.getId());
         }
         
         return 0; // Operación lógica, sin costo de tiempo
@@ -265,8 +302,11 @@ private long executeNew(New inst) {
         }
         
         // 1. Obtener todos los punteros que le pertenecen a este proceso
-        // ¡Aquí usamos el nuevo método getOwnedPointers()!
-        List<Integer> pointersToKill = processToKill.getOwnedPointers();
+        // (Se usa la cuenta de esta MMU: si la otra MMU ya ejecutó el 'kill',
+        // el Process compartido ya no tiene punteros)
+        IntSet ownedPointers = pointersByPid.remove(pidToKill);
+        int[] pointersToKill = (ownedPointers == null) ? new int[0] : ownedPointers.toArray();
+        Arrays.sort(pointersToKill); // En el orden en que se crearon
 
         // 2. Llamar a la lógica de 'delete' para cada puntero
         long timeElapsed = 0;
@@ -276,7 +316,11 @@ private long executeNew(New inst) {
         }
         
         // 3. Marcar el proceso como terminado
+        // (Los procesos se comparten entre MMUs, cada una lleva su propia cuenta)
         processToKill.terminate();
+        if (killedPids.add(pidToKill)) {
+            activeProcessCount--;
+        }
         
         return timeElapsed; // Costo es la suma de todas las eliminaciones lógicas (0)
     }
@@ -291,6 +335,13 @@ private long executeNew(New inst) {
     public SymbolTable getSymbolTable() {
         return symbolTable;
     }
+    
+    /**
+     * Los ids de página vivos siempre son menores que pageIds.getHighWater().
+     */
+    public PageIdAllocator getPageIds() {
+        return pageIds;
+    }
 
     public long getTotalTime() {
         return totalTime;
@@ -308,13 +359,23 @@ private long executeNew(New inst) {
         return processMap;
     }
     
+    /**
+     * Cantidad de procesos que esta MMU aún no ha terminado con 'kill'.
+     * Es un contador, no recorre el mapa de procesos.
+     */
+    public int getActiveProcessCount() {
+        return activeProcessCount;
+    }
+    
     /**
      * Resetea la MMU para una nueva simulación.
      */
     public void reset() {
         computer.reset();
         symbolTable.clear();
+        pageIds.reset();
         algorithm.reset();
+        algorithm.attach(computer);
         
         // Resetear todos los procesos
         for (Process p : processMap.values()) {
@@ -323,5 +384,8 @@ private long executeNew(New inst) {
         
         totalTime = 0;
         thrashingTime = 0;
+        killedPids.clear();
+        pointersByPid.clear();
+        activeProcessCount = processMap.size();
     }
 }
\ No newline at end of file
@@ -1,97 +1,114 @@
 package controladores;
 
 import modelos.Page;
+import java.util.Arrays;
 import java.util.List;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Algoritmo MRU (Most Recently Used)
  * Reemplaza la página que fue usada más recientemente en RAM
- * 
+ *
  * Implemntación:
- * - Usa un contador global que se incrementa en cada uso
- * - Cada página tien un "timestamp" de cuando fue usada
- * - La victima es la página con el timestamp más reciente(mayor)
- * 
+ * - Una pila de recencia con los marcos residentes (FrameList):
+ *   el inicio es la página usada más recientemente
+ * - Cargar o usar una página la mueve al inicio
+ * - La victima es la página del inicio
+ * Todo es O(1). El tiempo lógico es un long, así que no se desborda ni con
+ * trazas de miles de millones de referencias.
+ *
  * Nota: MRU es poco común en sistemas reales pero útil para casos especificos
  * donde las paginas recien usadas probablemente no se volveran a usar pronto.
  */
 
 public class MRU implements PageReplacementAlgorithm {
-    
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Pila de recencia: inicio = más reciente, final = menos reciente.
+     * Se enlaza por índice de marco.
+     */
+    private final FrameList recencyStack;
+
     /**
-     * Mapa que asocia cada página con su ultimo timestamp de uso-
-     * Key: ID de la pagina
-     * Value: Timestamp de ultimo uso (mayor = más reciente)
+     * Último uso de cada marco (para mostrar el estado).
      */
-    private Map<Integer, Integer> lastUsedTimestamps;
+    private long[] lastUsedTimestamps;
 
     /**
      * Contador global que se incrementa con cada operación..
      */
-    private int globalCounter;
+    private long globalCounter;
 
     public MRU() {
-        this.lastUsedTimestamps = new HashMap<>();
+        this.recencyStack = new FrameList();
+        this.lastUsedTimestamps = new long[INITIAL_CAPACITY];
         this.globalCounter = 0;
     }
 
     @Override
     public Page selectPageToReplace(List<Page> pagesInRAM) {
         if (pagesInRAM == null || pagesInRAM.isEmpty()) {
-            return null; 
+            return null;
         }
 
-        Page victimPage = null;
-        int mostRecentUseTime = Integer.MIN_VALUE;
-
-        for (Page page: pagesInRAM) {
-            Integer timestamp = lastUsedTimestamps.get(page.getId());
-
-            if(timestamp == null) {
-                timestamp = Integer.MIN_VALUE;
-            }
+        int mostRecent = recencyStack.first();
+        if (mostRecent != FrameList.NIL) {
+            return recencyStack.getPage(mostRecent);
+        }
 
-            if (timestamp > mostRecentUseTime) {
-                mostRecentUseTime = timestamp;
-                victimPage = page;
+        // No se avisó ninguna carga: cualquier página sirve
+        for (Page page : pagesInRAM) {
+            if (page != null) {
+                return page;
             }
         }
+        return null;
+    }
+
+    @Override
+    public void onLoad(Page page) {
+        if (page == null || page.getIndexOfPage() < 0) return;
+        // Cuando se carga, pasa a ser la más reciente
+        recencyStack.addFirst(page.getIndexOfPage(), page);
+        touch(page.getIndexOfPage());
+    }
 
-        return victimPage;
+    @Override
+    public void onUse(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (recencyStack.getPage(frame) != page) {
+            onLoad(page); // No se avisó su carga
+            return;
+        }
+        // Al usarla, mover al inicio de la pila
+        recencyStack.moveToFirst(frame);
+        touch(frame);
     }
 
     @Override
-    public void updateMetadata(Page page, String event) {
+    public void onEvict(Page page) {
         if (page == null) return;
+        // Desenlazar su marco
+        int frame = page.getIndexOfPage();
+        if (recencyStack.getPage(frame) == page) {
+            recencyStack.remove(frame);
+        }
+    }
 
-        switch (event.toLowerCase()) {
-            case "load":
-                // Cuando se carga, actualizar timestamp
-                lastUsedTimestamps.put(page.getId(), globalCounter);
-                globalCounter++;
-                break;
-                
-            case "use":
-                // Actualizar timestamp cuando se usa
-                lastUsedTimestamps.put(page.getId(), globalCounter);
-                globalCounter++;
-                break;
-                
-            case "evict":
-                // Remover la página del mapa cuando se envía a disco
-                lastUsedTimestamps.remove(page.getId());
-                break;
-                
-            default:
-                System.err.println("MRU: Evento desconocido: " + event);
+    private void touch(int frame) {
+        if (frame >= lastUsedTimestamps.length) {
+            lastUsedTimestamps = Arrays.copyOf(lastUsedTimestamps,
+                    Math.max(lastUsedTimestamps.length * 2, frame + 1));
         }
+        lastUsedTimestamps[frame] = globalCounter++;
     }
 
     @Override
     public void reset() {
-        this.lastUsedTimestamps.clear();
+        this.recencyStack.clear();
+        Arrays.fill(lastUsedTimestamps, 0L);
         this.globalCounter = 0;
     }
 
@@ -105,22 +122,22 @@ public class MRU implements PageReplacementAlgorithm {
         StringBuilder sb = new StringBuilder();
         sb.append("=== MRU - Estado Actual ===\n");
         sb.append("Contador Global: ").append(globalCounter).append("\n");
-        sb.append("Páginas rastreadas: ").append(lastUsedTimestamps.size()).append("\n");
-
-        if (!lastUsedTimestamps.isEmpty()) {
-            sb.append("\nÚltimo uso (ID -> Timestamp):\n");
-            lastUsedTimestamps.entrySet().stream()
-                .sorted((e1, e2) -> e2.getValue().compareTo(e1.getValue())) // Ordenar por más reciente
-                .forEach(entry -> sb.append(String.format("  Page %d: último uso en t=%d\n", 
-                    entry.getKey(), entry.getValue())));
+        sb.append("Páginas rastreadas: ").append(recencyStack.size()).append("\n");
+
+        if (!recencyStack.isEmpty()) {
+            sb.append("\nÚltimo uso (más reciente primero):\n");
+            for (int frame = recencyStack.first(); frame != FrameList.NIL; frame = recencyStack.next(frame)) {
+                sb.append(String.format("  Page %d: último uso en t=%d\n",
+                    recencyStack.getPage(frame).getId(), lastUsedTimestamps[frame]));
+            }
         }
-        
+
         return sb.toString();
     }
-    
+
     @Override
     public String toString() {
-        return String.format("MRU[páginas=%d, contador=%d]", 
-            lastUsedTimestamps.size(), globalCounter);
+        return String.format("MRU[páginas=%d, contador=%d]",
+            recencyStack.size(), globalCounter);
     }
 }
@@ -1,11 +1,12 @@
 package controladores;
 
 import modelos.Instruction;
+import modelos.IntIntMap;
+import modelos.IntObjectMap;
 import modelos.Page;
 import modelos.Use;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.HashMap;
 
 /**
  *Algoritmo OPT (Optimal Page Replacement)
@@ -16,10 +17,23 @@ import java.util.HashMap;
  * * Este algoritmo es teóricamente óptimo pero imposible de implementar
  * en un sistema real (requiere conocer el futuro).
  * * Se usa como benchmark para comparar otros algoritmos
+ *
+ * Implementación:
+ * - Al recibir la secuencia se hace una pasada hacia atrás que calcula, para
+ *   cada 'use', la posición del siguiente 'use' del mismo ptr (y el primer
+ *   'use' de cada ptr). Todas las páginas de un ptr se usan juntas, así que
+ *   el próximo uso de una página es el de su ptr.
+ * - Las páginas en RAM están en un heap de máximos (FrameHeap) ordenado por
+ *   su próximo uso: la víctima es la raíz, O(log marcos) por fallo.
+ * - Si la MMU no avisó ninguna carga (uso directo del algoritmo), se busca
+ *   el próximo uso del ptr de cada página recorriendo la secuencia, como antes.
  * @author wess y bayron
  */
 public class OPT implements PageReplacementAlgorithm{
 
+    /** Próximo uso de una página que ya no se vuelve a usar. */
+    private static final int NEVER = Integer.MAX_VALUE;
+
     /**
      * Secuencia completa de instrucciones.
      */
@@ -31,19 +45,46 @@ public class OPT implements PageReplacementAlgorithm{
     private int currentInstructionIndex;
 
     /**
-     * Tabla de símbolos para saber qué páginas corresponden a cada ptr.
-     * Key: ptr
-     * Value: Lista de IDs de páginas
+     * nextUseAfter[i] = posición del siguiente 'use' del mismo ptr que el
+     * 'use' en la posición i (NEVER si no hay). Solo vale para los 'use'.
+     */
+    private int[] nextUseAfter;
+
+    /**
+     * Primer 'use' de cada ptr en la secuencia.
+     */
+    private IntIntMap firstUseByPtr;
+
+    /**
+     * Próximo uso actual de cada ptr vivo.
+     */
+    private IntIntMap nextUseByPtr;
+
+    /**
+     * Páginas de cada ptr vivo (para actualizar su llave en el heap).
      */
-    private Map<Integer, List<Integer>> ptrToPageIdsMap;
+    private IntObjectMap<List<Page>> pagesByPtr;
+
+    /**
+     * ptr de cada página, indexado por id de página (los ids son densos).
+     */
+    private int[] ptrByPageId;
+
+    /**
+     * Páginas en RAM ordenadas por próximo uso (la raíz es la más lejana).
+     */
+    private final FrameHeap residentPages;
 
     /**
      * Constructor sin secuencia (se estbablece luego).
      */
     public OPT(){
-        this.instructionSequence = null;
-        this.currentInstructionIndex = 0;
-        this.ptrToPageIdsMap = new HashMap<>();
+        this.firstUseByPtr = new IntIntMap();
+        this.nextUseByPtr = new IntIntMap();
+        this.pagesByPtr = new IntObjectMap<>();
+        this.ptrByPageId = new int[16];
+        this.residentPages = new FrameHeap();
+        setInstructionSequence(null);
     }
 
     /**
@@ -51,35 +92,51 @@ public class OPT implements PageReplacementAlgorithm{
      * @param sequence Lista completa de instrucciones
      */
     public OPT(List<Instruction> sequence) {
-        this.instructionSequence = sequence;
-        this.currentInstructionIndex = 0;
-        this.ptrToPageIdsMap = new HashMap<>();
+        this();
+        setInstructionSequence(sequence);
     }
 
     /**
-     * Establece la secuencia de instrucciones
+     * Establece la secuencia de instrucciones y precalcula el próximo uso
+     * de cada referencia (una pasada hacia atrás, O(instrucciones)).
      * @param sequence Lista de instrucciones
      */
     public void setInstructionSequence(List<Instruction> sequence) {
         this.instructionSequence = sequence;
         this.currentInstructionIndex = 0;
+        buildNextUseIndex();
     }
 
-    /**
-     * Establece el mapeo de ptr a páginas (para saber que páginas se van a usar).
-     * * @param map Mapa de ptr -> Lista de IDs de páginas
-     */
-    public void setPtrToPageIdsMap(Map<Integer, List<Integer>> map) {
-        this.ptrToPageIdsMap = map;
+    private void buildNextUseIndex() {
+        firstUseByPtr.clear();
+        if (instructionSequence == null) {
+            nextUseAfter = new int[0];
+            return;
+        }
+
+        int n = instructionSequence.size();
+        nextUseAfter = new int[n];
+        // Al ir hacia atrás, firstUseByPtr guarda el 'use' más cercano visto
+        for (int i = n - 1; i >= 0; i--) {
+            Instruction instr = instructionSequence.get(i);
+            if (instr instanceof Use) {
+                int ptr = ((Use) instr).getPtr();
+                nextUseAfter[i] = firstUseByPtr.get(ptr, NEVER);
+                firstUseByPtr.put(ptr, i);
+            }
+        }
     }
 
     /**
-     * Registra que un ptr está asociado a ciertas páginas.
+     * Registra que un ptr está asociado a ciertas páginas. Con la MMU no hace
+     * falta (lo hace onAllocate); sirve para usar el algoritmo directamente.
      * @param ptr ID del puntero
      * @param pageIds Lista de IDs de páginas
      */
     public void registerPtrToPages(int ptr, List<Integer> pageIds) {
-        this.ptrToPageIdsMap.put(ptr, pageIds);
+        for (int pageId : pageIds) {
+            setPtrOfPage(pageId, ptr);
+        }
     }
 
     @Override
@@ -93,19 +150,20 @@ public class OPT implements PageReplacementAlgorithm{
             return pagesInRAM.get(0);
         }
 
-        Map<Integer, Integer> nextUse = new HashMap<>();
-    
-        for (Page page : pagesInRAM) {
-            int pageId = page.getId();
-            int distance = findNextUse(pageId, currentInstructionIndex);
-            nextUse.put(pageId, distance);
+        // Camino normal: la raíz del heap es la que se usa más tarde
+        if (!residentPages.isEmpty()) {
+            return residentPages.getPage(residentPages.peekFrame());
         }
 
+        // Sin eventos de la MMU: buscar el próximo uso de cada página
         Page victimPage = null;
         int maxDistance = -1;
 
         for (Page page : pagesInRAM) {
-            int distance = nextUse.get(page.getId());
+            if (page == null) {
+                continue;
+            }
+            int distance = findNextUse(page.getId(), currentInstructionIndex);
             if (distance > maxDistance) {
                 maxDistance = distance;
                 victimPage = page;
@@ -116,44 +174,139 @@ public class OPT implements PageReplacementAlgorithm{
 
     /**
      * Busca cuándo será usado próximamente un ID de página
+     * (recorre la secuencia, solo se usa cuando no hay heap).
      * @param pageId ID de la página a buscar
      * @param startIndex Índice desde dodne empezar a buscar
      * @return Distancia hasta el proximo usos, o Integer.MAX_VALUE si nunca más se usa
      */
     private int findNextUse(int pageId, int startIndex) {
+        int ptr = ptrOfPage(pageId);
+        if (ptr == 0) {
+            return Integer.MAX_VALUE; // Página sin ptr conocido
+        }
         for (int i = startIndex; i < instructionSequence.size(); i++){
             Instruction instr = instructionSequence.get(i);
 
-            if (instr instanceof Use) {
-                Use useInstr = (Use) instr;
-                int ptr = useInstr.getPtr();
-
-                List<Integer> pageIds = ptrToPageIdsMap.get(ptr);
-                if(pageIds != null && pageIds.contains(pageId)) {
-                    return i - startIndex;
-                }
+            if (instr instanceof Use && ((Use) instr).getPtr() == ptr) {
+                return i - startIndex;
             }
         }
         return Integer.MAX_VALUE;
     }
 
+    /**
+     * Entra al heap con el próximo uso de su ptr.
+     */
+    @Override
+    public void onLoad(Page page) {
+        if (page == null || page.getIndexOfPage() < 0) return;
+        residentPages.put(page.getIndexOfPage(), page, nextUseOfPage(page));
+    }
+
+    @Override
+    public void onUse(Page page) {
+        // El próximo uso cambia por instrucción, se actualiza en onInstructionExecuted
+    }
+
+    @Override
+    public void onEvict(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (residentPages.getPage(frame) == page) {
+            residentPages.remove(frame);
+        }
+    }
+
+    /**
+     * Registra las páginas del puntero nuevo y su primer uso.
+     */
+    @Override
+    public void onAllocate(int ptr, List<Page> pages) {
+        for (Page page : pages) {
+            setPtrOfPage(page.getId(), ptr);
+        }
+        pagesByPtr.put(ptr, pages);
+        nextUseByPtr.put(ptr, firstUseByPtr.get(ptr, NEVER));
+    }
+
+    /**
+     * El puntero ya no se va a usar, sus ids de página pueden reutilizarse.
+     */
+    @Override
+    public void onFree(int ptr, List<Page> pages) {
+        for (Page page : pages) {
+            setPtrOfPage(page.getId(), 0);
+        }
+        pagesByPtr.remove(ptr);
+        nextUseByPtr.remove(ptr);
+    }
+
+    /**
+     * Cada instrucción ejecutada (new, use, delete o kill) es una posición
+     * de la secuencia, así que el índice avanza con todas. Después de un
+     * 'use', las páginas de su ptr pasan a su siguiente uso.
+     */
     @Override
-    public void updateMetadata(Page page, String event) {
-        if ("use".equals(event.toLowerCase())) {
-            currentInstructionIndex++;
+    public void onInstructionExecuted(Instruction instruction) {
+        int position = currentInstructionIndex;
+        if (instruction instanceof Use && position < nextUseAfter.length
+                && instructionSequence.get(position) instanceof Use
+                && ((Use) instructionSequence.get(position)).getPtr() == ((Use) instruction).getPtr()) {
+            int ptr = ((Use) instruction).getPtr();
+            int next = nextUseAfter[position];
+            nextUseByPtr.put(ptr, next);
+            List<Page> pages = pagesByPtr.get(ptr);
+            if (pages != null) {
+                for (Page page : pages) {
+                    int frame = page.getIndexOfPage();
+                    if (residentPages.getPage(frame) == page) {
+                        residentPages.update(frame, next);
+                    }
+                }
+            }
+        }
+        advanceInstructionIndex();
+    }
+
+    private int nextUseOfPage(Page page) {
+        int ptr = ptrOfPage(page.getId());
+        if (ptr == 0) {
+            return NEVER; // Página que no vino de un 'new' conocido
+        }
+        return nextUseByPtr.get(ptr, NEVER);
+    }
+
+    /**
+     * @return el ptr de la página, 0 si no se conoce.
+     */
+    private int ptrOfPage(int pageId) {
+        if (pageId < 0 || pageId >= ptrByPageId.length) {
+            return 0;
         }
+        return ptrByPageId[pageId];
+    }
+
+    private void setPtrOfPage(int pageId, int ptr) {
+        if (pageId < 0) {
+            return;
+        }
+        if (pageId >= ptrByPageId.length) {
+            ptrByPageId = Arrays.copyOf(ptrByPageId, Math.max(ptrByPageId.length * 2, pageId + 1));
+        }
+        ptrByPageId[pageId] = ptr; // Los ptrs empiezan en 1, 0 = sin ptr
     }
 
     /**
      * Avanza el indice de instruccion actual
-     * Debe ser llamado por la MMU despues de ejecutar cada instrucción
+     * La MMU lo hace despues de ejecutar cada instrucción (onInstructionExecuted)
      */
     public void advanceInstructionIndex() {
         currentInstructionIndex++;
     }
 
     /**
-     * Establece manualmente el indice actual
+     * Establece manualmente el indice actual.
+     * Solo afecta la búsqueda sin heap (el heap sigue los eventos de la MMU).
      * @param index Nuevo indice
      */
     public void setCurrentInstructionIndex(int index) {
@@ -163,7 +316,10 @@ public class OPT implements PageReplacementAlgorithm{
     @Override
     public void reset() {
         this.currentInstructionIndex = 0;
-        this.ptrToPageIdsMap.clear();
+        this.nextUseByPtr.clear();
+        this.pagesByPtr.clear();
+        Arrays.fill(ptrByPageId, 0);
+        this.residentPages.clear();
     }
 
     @Override
@@ -175,7 +331,7 @@ public class OPT implements PageReplacementAlgorithm{
     public String getDetailedState() {
         StringBuilder sb = new StringBuilder();
         sb.append("=== OPT - Estado Actual ===\n");
-        
+
         if (instructionSequence != null) {
             sb.append("Total de instrucciones: ").append(instructionSequence.size()).append("\n");
             sb.append("Índice actual: ").append(currentInstructionIndex).append("\n");
@@ -184,16 +340,30 @@ public class OPT implements PageReplacementAlgorithm{
         } else {
             sb.append("Sin secuencia de instrucciones cargada\n");
         }
-        
-        sb.append("Punteros rastreados: ").append(ptrToPageIdsMap.size()).append("\n");
 
-        if (!ptrToPageIdsMap.isEmpty()) {
+        sb.append("Punteros rastreados: ").append(pagesByPtr.size()).append("\n");
+        sb.append("Páginas en el heap: ").append(residentPages.size()).append("\n");
+
+        if (!residentPages.isEmpty()) {
+            int frame = residentPages.peekFrame();
+            int key = residentPages.getKey(frame);
+            sb.append(String.format("Próxima víctima: Page %d (marco %d, próximo uso %s)\n",
+                    residentPages.getPage(frame).getId(), frame, key == NEVER ? "nunca" : String.valueOf(key)));
+        }
+
+        if (!pagesByPtr.isEmpty()) {
             sb.append("\nMapeo ptr -> páginas:\n");
-            for (Map.Entry<Integer, List<Integer>> entry : ptrToPageIdsMap.entrySet()) {
-                sb.append(String.format("  ptr %d: %s\n", entry.getKey(), entry.getValue()));
+            int[] ptrs = pagesByPtr.keys();
+            Arrays.sort(ptrs);
+            for (int ptr : ptrs) {
+                sb.append(String.format("  ptr %d:", ptr));
+                for (Page page : pagesByPtr.get(ptr)) {
+                    sb.append(" ").append(page.getId());
+                }
+                sb.append("\n");
             }
         }
-        
+
         return sb.toString();
     }
 
@@ -205,4 +375,4 @@ public class OPT implements PageReplacementAlgorithm{
         return String.format("OPT[%s]", estado);
     }
 
-}
\ No newline at end of file
+}
@@ -1,30 +1,147 @@
 package controladores;
 
+import modelos.Computer;
+import modelos.Instruction;
 import modelos.Page;
 import java.util.List;
 
 /**
  * Interfaz base para todos los algoritmos de paginación.
  * Define el contrato que deben cumplir OPT, FIFO, LRU, MRU, RND.
+ *
+ * La MMU avisa cada evento con su propio método (onLoad, onUse, onEvict,
+ * onMiss, onAllocate, onFree, onInstructionExecuted, onTimeAdvanced), sin
+ * strings de por medio.
+ * Un algoritmo escrito con el método viejo updateMetadata(Page, String)
+ * sigue funcionando: los onLoad/onUse/onEvict por defecto lo llaman, y el
+ * updateMetadata por defecto los llama a ellos.
+ * Cada algoritmo debe implementar uno de los dos estilos. Si un evento no
+ * lo maneja ninguno, en vez de llamarse sin fin se lanza una
+ * IllegalStateException con el nombre del algoritmo (ver LegacyEvents).
  */
 
 public interface PageReplacementAlgorithm {
+
+    /** Evento de página cargada en RAM (para el método viejo). */
+    String EVENT_LOAD = "load";
+    /** Evento de página usada estando en RAM (para el método viejo). */
+    String EVENT_USE = "use";
+    /** Evento de página que sale de la RAM (para el método viejo). */
+    String EVENT_EVICT = "evict";
+
     /**
      * Selecciona la página victima a reemplazar cuando la RAM está llena.
-     * 
+     *
      * @param pageInRAM Lista de pagina actualmente en RAM.
      * @return La pagina que dee ser enviada a disco, o null si no hay victimas
      */
     Page selectPageToReplace(List<Page> pageInRAM);
 
+    /**
+     * La página acaba de colocarse en un marco (ya tiene su índice).
+     * @param page La página cargada.
+     */
+    default void onLoad(Page page) {
+        LegacyEvents.checkNotDispatching(this, EVENT_LOAD);
+        updateMetadata(page, EVENT_LOAD);
+    }
+
+    /**
+     * La página se usó y ya estaba en RAM (hit).
+     * @param page La página usada.
+     */
+    default void onUse(Page page) {
+        LegacyEvents.checkNotDispatching(this, EVENT_USE);
+        updateMetadata(page, EVENT_USE);
+    }
+
+    /**
+     * La página no está en RAM y va a entrar. Se llama ANTES de pedir
+     * víctima, así que un algoritmo puede decidir la víctima según qué página
+     * viene (ARC, LIRS, ...). Después llega su onLoad.
+     * @param page La página que va a cargarse.
+     */
+    default void onMiss(Page page) {
+    }
+
+    /**
+     * La página va a salir de la RAM, ya sea al disco o porque se borró.
+     * Se llama ANTES de liberar el marco, así que la página todavía
+     * tiene su índice.
+     * @param page La página que sale.
+     */
+    default void onEvict(Page page) {
+        LegacyEvents.checkNotDispatching(this, EVENT_EVICT);
+        updateMetadata(page, EVENT_EVICT);
+    }
+
+    /**
+     * La MMU presenta su computadora al algoritmo (al crearse y al hacer
+     * reset), para los que quieran leer la RAM sin recibir la lista.
+     * @param computer La computadora simulada de esa MMU.
+     */
+    default void attach(Computer computer) {
+    }
+
+    /**
+     * Se creó un puntero con estas páginas. Se llama antes de colocarlas en
+     * RAM, así que todavía no tienen marco.
+     * @param ptr El puntero nuevo.
+     * @param pages Sus páginas.
+     */
+    default void onAllocate(int ptr, List<Page> pages) {
+    }
+
+    /**
+     * Se borró un puntero (delete o kill). Sus páginas que estaban en RAM ya
+     * pasaron por onEvict.
+     * @param ptr El puntero borrado.
+     * @param pages Las páginas que tenía.
+     */
+    default void onFree(int ptr, List<Page> pages) {
+    }
+
+    /**
+     * El reloj simulado de la MMU avanzó (después de cada instrucción).
+     * Los usos de la instrucción siguiente ocurren en este tiempo.
+     * @param now El tiempo total simulado, en segundos (TIME_HIT / TIME_FAULT).
+     */
+    default void onTimeAdvanced(long now) {
+    }
+
+    /**
+     * La MMU terminó de ejecutar una instrucción.
+     * @param instruction La instrucción ejecutada.
+     */
+    default void onInstructionExecuted(Instruction instruction) {
+    }
+
     /**
      * Actualiza los metadaos del algoritmo cuando ocurre un evento.
      * Eventos: "load"(pagina cargada), "use"(pagina usada), "evict"(pagina enviada a disco)
+     *
+     * Es el método viejo, se mantiene por compatibilidad. Por defecto pasa el
+     * evento al método on... que le corresponde.
      * @param page La página involucrada en el evento.
      * @param event El tipo de evento que ocurrió.
+     * @throws IllegalStateException si el algoritmo tampoco implementa ese on...
      */
-
-     void updateMetadata(Page page, String event);
+    default void updateMetadata(Page page, String event) {
+        PageReplacementAlgorithm previous = LegacyEvents.enter(this);
+        try {
+            if (EVENT_LOAD.equalsIgnoreCase(event)) {
+                onLoad(page);
+            } else if (EVENT_USE.equalsIgnoreCase(event)) {
+                onUse(page);
+            } else if (EVENT_EVICT.equalsIgnoreCase(event)) {
+                onEvict(page);
+            } else {
+                System.err.println(getAlgorithmName() + ": Evento desconocido: " + event);
+            }
+        } finally {
+            LegacyEvents.exit(previous);
+        }
+    }
 
      /**
       * Resetea el estado del algoritmo para una nueva simulación.
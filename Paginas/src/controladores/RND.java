@@ -1,8 +1,9 @@
 package controladores;
 
+import modelos.Computer;
 import modelos.Page;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Algoritmo Random (RND)
@@ -14,7 +15,11 @@ import java.util.Random;
  * - Útil como baseline para comparar otros algoritmos
  * - Puede usar una semilla para reproducibilidad en tests
  * Implemntación:
- * - Usa java.util.Random para seleccionar un índice aleatorio
+ * - Usa SplittableRandom (no sincronizado, misma semilla = mismas víctimas)
+ * - Sortea directamente entre los marcos ocupados que lleva el asignador de
+ *   marcos de la computadora: un solo sorteo, O(1), sin reintentos por
+ *   marcos vacíos
+ * - Si no tiene computadora (uso directo en tests) sortea sobre la lista
  * @author Bayron
  */
 
@@ -23,18 +28,23 @@ public class RND implements PageReplacementAlgorithm {
     /**
      * Generador de números aleatorios.
      */
-    private Random randomGenerator;
+    private SplittableRandom randomGenerator;
 
     /**
      * Semilla utilzada (para debuggin).
      */
     private Long seed;
 
+    /**
+     * Computadora de la MMU, para sortear entre sus marcos ocupados.
+     */
+    private Computer computer;
+
     /**
      * Constructor con semilla aleatoria.
      */
     public RND() {
-        this.randomGenerator = new Random();
+        this.randomGenerator = new SplittableRandom();
         this.seed = null;
     }
 
@@ -42,7 +52,7 @@ public class RND implements PageReplacementAlgorithm {
      * Constructor con semilla específica (para tests).
      */
     public RND(Long seed) {
-        this.randomGenerator = new Random(seed);
+        this.randomGenerator = newGenerator(seed);
         this.seed = seed;
     }
 
@@ -53,7 +63,7 @@ public class RND implements PageReplacementAlgorithm {
      */
     public void setSeed(Long seed) {
         this.seed = seed;
-        this.randomGenerator = new Random(seed);
+        this.randomGenerator = newGenerator(seed);
     }
 
     @Override
@@ -62,23 +72,42 @@ public class RND implements PageReplacementAlgorithm {
             return null; 
         }
 
+        if (computer != null && computer.getUsedFrameCount() > 0) {
+            int frame = computer.getUsedFrame(randomGenerator.nextInt(computer.getUsedFrameCount()));
+            return computer.getFrameTable().getPage(frame);
+        }
+
         int randomIndex = randomGenerator.nextInt(pagesInRAM.size());
 
         return pagesInRAM.get(randomIndex);
     }
 
     @Override
-    public void updateMetadata(Page page, String event) {
-        // RND no necesita metadatos, este método es un no-op.
+    public void attach(Computer computer) {
+        this.computer = computer;
+    }
+
+    // RND no necesita metadatos, los eventos son no-op.
+
+    @Override
+    public void onLoad(Page page) {
+    }
+
+    @Override
+    public void onUse(Page page) {
+    }
+
+    @Override
+    public void onEvict(Page page) {
     }
 
     @Override
     public void reset() {
-        if (seed != null) {
-            this.randomGenerator = new Random(seed);
-        } else {
-            this.randomGenerator = new Random();
-        }
+        this.randomGenerator = newGenerator(seed);
+    }
+
+    private static SplittableRandom newGenerator(Long seed) {
+        return seed != null ? new SplittableRandom(seed) : new SplittableRandom();
     }
 
     @Override
@@ -0,0 +1,243 @@
+package controladores;
+
+import modelos.Computer;
+import modelos.Page;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Algoritmo S3-FIFO
+ * Tres colas FIFO: una pequeña de prueba (S), una principal (M) y una de
+ * fantasmas (G) con los ids que salieron de S sin reusarse.
+ *
+ * Funcionamiento:
+ * - Cada página tiene un contador de usos de 0 a 3
+ * - Una página que falla entra en S, o directo en M si su id estaba en G
+ * - Si S tiene al menos el 10% de los marcos se desaloja de S: la primera
+ *   página, si se usó más de una vez, pasa a M (con contador en 0); si no
+ *   sale y su id va a G
+ * - Si no, se desaloja de M: la primera página, si tiene usos, vuelve al
+ *   final con un uso menos (como SC); si no, sale
+ * - G recuerda a lo más tantos ids como le tocan a M; el más viejo se olvida
+ * Las páginas que se tocan una sola vez (un barrido) salen rápido de S
+ * sin pasar por M, así que no sacan a las que se reusan.
+ *
+ * Implemntación:
+ * - S y M son FrameList (colas enlazadas por índice de marco) y G es una
+ *   GhostQueue de ids: agregar, sacar la primera y quitar una página
+ *   cualquiera (delete) son O(1)
+ * - Los contadores son un byte[] por marco: usar una página es sumar uno
+ */
+
+public class S3FIFO implements PageReplacementAlgorithm {
+
+    /** Tope del contador de usos (2 bits). */
+    private static final int MAX_FREQUENCY = 3;
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Cola pequeña de prueba: inicio = la más vieja. */
+    private final FrameList small;
+    /** Cola principal: inicio = la más vieja. */
+    private final FrameList main;
+    /** Ids que salieron de S sin reusarse. */
+    private final GhostQueue ghost;
+
+    private byte[] frequency;
+
+    /** Cantidad de marcos. */
+    private int capacity;
+    private boolean capacityFixed;
+
+    /** La página que está fallando estaba en G: entra en M. */
+    private boolean pendingMain;
+
+    public S3FIFO() {
+        this.small = new FrameList();
+        this.main = new FrameList();
+        this.ghost = new GhostQueue();
+        this.frequency = new byte[INITIAL_CAPACITY];
+        reset();
+    }
+
+    @Override
+    public void attach(Computer computer) {
+        this.capacity = computer.getAmountOfPagesInRAM();
+        this.capacityFixed = true;
+    }
+
+    @Override
+    public Page selectPageToReplace(List<Page> pagesInRAM) {
+        if (pagesInRAM == null || pagesInRAM.isEmpty()) {
+            return null;
+        }
+
+        if (small.isEmpty() && main.isEmpty()) {
+            // No se avisó ninguna carga: cualquier página sirve
+            for (Page page : pagesInRAM) {
+                if (page != null) {
+                    return page;
+                }
+            }
+            return null;
+        }
+
+        // Cada vuelta saca una página de S o le quita un uso a una de M
+        while (true) {
+            if (!small.isEmpty() && (small.size() >= smallTarget() || main.isEmpty())) {
+                int frame = small.first();
+                if (frequency[frame] > 1) {
+                    // Se reusó durante la prueba: pasa a M
+                    Page page = small.getPage(frame);
+                    small.remove(frame);
+                    frequency[frame] = 0;
+                    main.addLast(frame, page);
+                    continue;
+                }
+                return small.getPage(frame);
+            }
+            int frame = main.first();
+            if (frequency[frame] > 0) {
+                frequency[frame]--;
+                main.moveToLast(frame);
+                continue;
+            }
+            return main.getPage(frame);
+        }
+    }
+
+    @Override
+    public void onMiss(Page page) {
+        if (page == null) return;
+        pendingMain = ghost.remove(page.getId());
+    }
+
+    @Override
+    public void onLoad(Page page) {
+        if (page == null || page.getIndexOfPage() < 0) return;
+        int frame = page.getIndexOfPage();
+        ensureCapacity(frame);
+        small.remove(frame);
+        main.remove(frame);
+        if (!capacityFixed) {
+            capacity = Math.max(capacity, small.size() + main.size() + 1);
+        }
+        frequency[frame] = 0;
+        if (pendingMain) {
+            main.addLast(frame, page);
+        } else {
+            small.addLast(frame, page);
+        }
+        pendingMain = false;
+    }
+
+    @Override
+    public void onUse(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (frame < 0 || frame >= frequency.length) return;
+        if (frequency[frame] < MAX_FREQUENCY) {
+            frequency[frame]++;
+        }
+    }
+
+    @Override
+    public void onEvict(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (frame < 0 || frame >= frequency.length) return;
+        if (small.remove(frame)) {
+            // Sale de S: se recuerda su id. El más viejo se olvida.
+            ghost.addLast(page.getId());
+            while (ghost.size() > ghostCapacity()) {
+                ghost.removeFirst();
+            }
+        } else {
+            main.remove(frame);
+        }
+        frequency[frame] = 0;
+    }
+
+    @Override
+    public void onFree(int ptr, List<Page> pages) {
+        // Los ids se van a reutilizar: olvidar sus fantasmas
+        for (Page page : pages) {
+            ghost.remove(page.getId());
+        }
+    }
+
+    /**
+     * @return el tamaño al que se deja llegar S (10% de los marcos, mínimo 1).
+     */
+    private int smallTarget() {
+        return Math.max(1, capacity / 10);
+    }
+
+    private int ghostCapacity() {
+        return Math.max(1, capacity - smallTarget());
+    }
+
+    public int getSmallSize() {
+        return small.size();
+    }
+
+    public int getMainSize() {
+        return main.size();
+    }
+
+    public int getGhostSize() {
+        return ghost.size();
+    }
+
+    private void ensureCapacity(int frame) {
+        if (frame < frequency.length) {
+            return;
+        }
+        frequency = Arrays.copyOf(frequency, Math.max(frequency.length * 2, frame + 1));
+    }
+
+    @Override
+    public void reset() {
+        small.clear();
+        main.clear();
+        ghost.clear();
+        Arrays.fill(frequency, (byte) 0);
+        if (!capacityFixed) {
+            this.capacity = 0;
+        }
+        this.pendingMain = false;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "S3-FIFO";
+    }
+
+    @Override
+    public String getDetailedState() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== S3-FIFO - Estado Actual ===\n");
+        sb.append("Marcos: ").append(capacity).append(" (S hasta ").append(smallTarget()).append(")\n");
+        sb.append(String.format("S=%d M=%d G=%d\n", small.size(), main.size(), ghost.size()));
+
+        appendQueue(sb, "S", small);
+        appendQueue(sb, "M", main);
+
+        return sb.toString();
+    }
+
+    private void appendQueue(StringBuilder sb, String name, FrameList queue) {
+        if (queue.isEmpty()) {
+            return;
+        }
+        sb.append("Cola ").append(name).append(" (la más vieja primero; entre paréntesis los usos):");
+        for (int frame = queue.first(); frame != FrameList.NIL; frame = queue.next(frame)) {
+            sb.append(" ").append(queue.getPage(frame).getId()).append("(").append(frequency[frame]).append(")");
+        }
+        sb.append("\n");
+    }
+
+    @Override
+    public String toString() {
+        return String.format("S3-FIFO[S=%d, M=%d, G=%d]", small.size(), main.size(), ghost.size());
+    }
+}
@@ -1,118 +1,161 @@
 package controladores;
 
 import modelos.Page;
+import java.util.Arrays;
 import java.util.List;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Queue;
-import java.util.LinkedList;
 
 /**
  * Algoritmo Second Chance (SC) - Mejora de FIFO
- * 
- * Funcionamiento:
- * - Mantiene una cola circular (simulada con Queue)
- * - Cada página tien un "bit de referencia"
- * - Al buscar víctima:
- *   - Si el bit = 1: poner bit = 0 y enviar al final de la cola
- *   - Si el bit = 0: seleccionar como víctima
+ *
+ * Funcionamiento (CLOCK):
+ * - Los marcos forman un reloj y una "manecilla" recuerda dónde se quedó
+ * - Cada marco tiene un "bit de referencia"
+ * - Al buscar víctima, desde la manecilla:
+ *   - Si el bit = 1: poner bit = 0 y seguir (segunda oportunidad)
+ *   - Si el bit = 0: seleccionar como víctima, la manecilla queda después
+ *
+ * Implementación:
+ * - Los bits de ocupado y de referencia son bitsets (long[]) por marco, así
+ *   que la búsqueda avanza de 64 en 64 marcos y no crea objetos
+ * - Borrar una página solo apaga el bit de su marco
  * @author Bayron
  */
 public class SC implements PageReplacementAlgorithm {
-    
+
+    private static final int INITIAL_FRAMES = 64;
+
+    /**
+     * Marcos con una página que el algoritmo conoce (1 = ocupado).
+     */
+    private long[] occupiedBits;
+
+    /**
+     * Bit de referencia de cada marco.
+     * 1 si fue referenciado recientemente, 0 si no.
+     */
+    private long[] referenceBits;
+
     /**
-     * Cola circular que mantiene el orden de las páginas
-     * Las páginas se agregan al final y se procesan desde el inicio.
+     * La página de cada marco, para poder devolverla como víctima.
      */
-    private Queue<Integer> pageQueue;
+    private Page[] pages;
 
     /**
-     * Mapa que asocia cada página con su bit de referencia.
-     * Key: ID de la página
-     * Value: true (1) si fue referenciada recientemente, false (0) si no)
+     * Marco donde empieza la próxima búsqueda.
      */
-    private Map<Integer, Boolean> referenceBits;
-    
+    private int hand;
+
+    /**
+     * Cantidad de marcos ocupados.
+     */
+    private int size;
+
     public SC() {
-        this.pageQueue = new LinkedList<>();
-        this.referenceBits = new HashMap<>();
+        this.occupiedBits = new long[INITIAL_FRAMES >>> 6];
+        this.referenceBits = new long[INITIAL_FRAMES >>> 6];
+        this.pages = new Page[INITIAL_FRAMES];
+        reset();
     }
 
     @Override
     public Page selectPageToReplace(List<Page> pagesInRAM) {
         if (pagesInRAM == null || pagesInRAM.isEmpty()) {
-            return null; 
+            return null;
         }
 
-        Map<Integer, Page> pageMap = new HashMap<>();
-        for (Page page : pagesInRAM) {
-            pageMap.put(page.getId(), page);
+        if (size == 0) {
+            // No se avisó ninguna carga: cualquier página sirve
+            for (Page page : pagesInRAM) {
+                if (page != null) {
+                    return page;
+                }
+            }
+            return null;
         }
 
-        int iterations = 0;
-        int maxIterations = pageQueue.size() * 2; //Evitamos el bucle infinito
-
-        while(iterations < maxIterations) {
-            Integer pageId = pageQueue.poll();
-
-            if (pageId == null) {
-                break; 
+        // A lo más una vuelta y media: la primera apaga los bits que encuentra
+        int words = occupiedBits.length;
+        int word = hand >>> 6;
+        long fromHand = -1L << (hand & 63);
+        for (int step = 0; step <= words * 2; step++) {
+            long candidates = occupiedBits[word] & ~referenceBits[word] & fromHand;
+            if (candidates != 0L) {
+                long victimBit = Long.lowestOneBit(candidates);
+                // Los marcos saltados en esta palabra gastan su segunda oportunidad
+                referenceBits[word] &= ~(fromHand & (victimBit - 1));
+                int victimFrame = (word << 6) + Long.numberOfTrailingZeros(victimBit);
+                hand = victimFrame + 1 < pages.length ? victimFrame + 1 : 0;
+                return pages[victimFrame];
             }
+            referenceBits[word] &= ~fromHand;
+            word = (word + 1 == words) ? 0 : word + 1;
+            fromHand = -1L;
+        }
 
-            Boolean refBit = referenceBits.get(pageId);
-            if (refBit == null) {
-                refBit = false;
-            }
+        System.err.println("SecondChance: No se encontró víctima, devolviendo primera página.");
+        return pagesInRAM.get(0);
+    }
 
-            if (refBit) {
-                //refBit = 1 -> dar segunda oportunidad
-                //poner bit = 0 y enviar al final de la cola
-                referenceBits.put(pageId, false);
-                pageQueue.offer(pageId);
-            } else {
-                //refBit = 0 -> seleccionar como víctima
-                return pageMap.get(pageId);
-            }
-            iterations++;
+    @Override
+    public void onLoad(Page page) {
+        if (page == null || page.getIndexOfPage() < 0) return;
+        int frame = page.getIndexOfPage();
+        ensureCapacity(frame);
+        // Al cargar, ocupar el marco y poner bit = 0
+        if (!isOccupied(frame)) {
+            occupiedBits[frame >>> 6] |= 1L << frame;
+            size++;
         }
+        referenceBits[frame >>> 6] &= ~(1L << frame);
+        pages[frame] = page;
+    }
 
-        System.err.println("SecondChance: No se encontró víctima tras " + maxIterations + " iteraciones, devolviendo primera página.");
-        return pagesInRAM.get(0);
+    @Override
+    public void onUse(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (frame < 0 || frame >= pages.length || pages[frame] != page) return;
+        // Al usar, poner bit = 1 (dar segunda oportunidad)
+        referenceBits[frame >>> 6] |= 1L << frame;
     }
 
     @Override
-    public void updateMetadata(Page page, String event) {
+    public void onEvict(Page page) {
         if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (frame < 0 || frame >= pages.length || pages[frame] != page) return;
+        // Al evictar, solo se libera el marco del reloj
+        occupiedBits[frame >>> 6] &= ~(1L << frame);
+        referenceBits[frame >>> 6] &= ~(1L << frame);
+        pages[frame] = null;
+        size--;
+    }
+
+    private boolean isOccupied(int frame) {
+        return (occupiedBits[frame >>> 6] & (1L << frame)) != 0L;
+    }
 
-        int pageId = page.getId();
-
-        switch (event.toLowerCase()) {
-            case "load":
-                // Al cargar, agregar a la cola y poner bit = 0
-                pageQueue.offer(pageId);
-                referenceBits.put(pageId, false);
-                break;
-                
-            case "use":
-                // Al usar, poner bit = 1 (dar segunda oportunidad)
-                referenceBits.put(pageId, true);
-                break;
-                
-            case "evict":
-                // Al evictar, remover de la cola y del mapa
-                pageQueue.remove(pageId);
-                referenceBits.remove(pageId);
-                break;
-                
-            default:
-                System.err.println("SC: Evento desconocido: " + event);
+    private boolean isReferenced(int frame) {
+        return (referenceBits[frame >>> 6] & (1L << frame)) != 0L;
+    }
+
+    private void ensureCapacity(int frame) {
+        if (frame < pages.length) {
+            return;
         }
+        int frames = Math.max(pages.length * 2, (frame + 64) & ~63);
+        pages = Arrays.copyOf(pages, frames);
+        occupiedBits = Arrays.copyOf(occupiedBits, frames >>> 6);
+        referenceBits = Arrays.copyOf(referenceBits, frames >>> 6);
     }
 
     @Override
     public void reset() {
-        this.pageQueue.clear();
-        this.referenceBits.clear();
+        Arrays.fill(occupiedBits, 0L);
+        Arrays.fill(referenceBits, 0L);
+        Arrays.fill(pages, null);
+        this.hand = 0;
+        this.size = 0;
     }
 
     @Override
@@ -124,25 +167,26 @@ public class SC implements PageReplacementAlgorithm {
     public String getDetailedState() {
         StringBuilder sb = new StringBuilder();
         sb.append("=== Second Chance - Estado Actual ===\n");
-        sb.append("Páginas en cola: ").append(pageQueue.size()).append("\n");
-        sb.append("Páginas rastreadas: ").append(referenceBits.size()).append("\n");
-
-        if (!pageQueue.isEmpty()) {
-            sb.append("\nCola circular (frente -> final):\n");
-            for (Integer pageId : pageQueue) {
-                Boolean bit = referenceBits.get(pageId);
-                String bitStr = (bit != null && bit) ? "1" : "0";
-                sb.append(String.format("  Page %d: bit=%s\n", pageId, bitStr));
+        sb.append("Páginas en el reloj: ").append(size).append("\n");
+        sb.append("Manecilla: marco ").append(hand).append("\n");
+
+        if (size > 0) {
+            sb.append("\nReloj (desde la manecilla):\n");
+            for (int i = 0; i < pages.length; i++) {
+                int frame = (hand + i) % pages.length;
+                if (isOccupied(frame)) {
+                    String bitStr = isReferenced(frame) ? "1" : "0";
+                    sb.append(String.format("  Page %d: marco=%d bit=%s\n", pages[frame].getId(), frame, bitStr));
+                }
             }
         }
-        
+
         return sb.toString();
     }
 
     @Override
     public String toString() {
-        return String.format("SC[páginas=%d, cola=%d]", 
-            referenceBits.size(), pageQueue.size());
+        return String.format("SC[páginas=%d, manecilla=%d]", size, hand);
     }
 
 }
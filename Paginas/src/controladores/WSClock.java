@@ -0,0 +1,242 @@
+package controladores;
+
+import modelos.Page;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Algoritmo WSClock
+ * Working Set con un reloj: en vez de recorrer todos los marcos en cada
+ * fallo, una manecilla avanza desde donde se quedó.
+ *
+ * Funcionamiento:
+ * - Cada marco tiene bit de referencia y el tiempo de su último uso
+ * - Desde la manecilla:
+ *   - bit = 1: se apaga, el último uso pasa a ser "ahora" y se sigue
+ *   - bit = 0 y edad mayor que τ: fuera del conjunto de trabajo, es la
+ *     víctima y la manecilla queda después
+ *   - bit = 0 y dentro de la ventana: se sigue
+ * - Si se da toda la vuelta sin víctima, sale la de uso más antiguo
+ * (La simulación no tiene páginas sucias, así que no hay escrituras que
+ * programar como en el algoritmo original.)
+ *
+ * Implemntación:
+ * - Bitsets (long[]) de ocupado y de referencia, y un long[] de último uso
+ * - Usar una página solo prende su bit; el tiempo se anota cuando pasa la
+ *   manecilla. Cada fallo avanza la manecilla lo necesario: O(1) amortizado
+ */
+
+public class WSClock implements PageReplacementAlgorithm {
+
+    private static final int INITIAL_FRAMES = 64;
+
+    private long[] occupiedBits;
+    private long[] referenceBits;
+    private long[] lastUse;
+    private Page[] pages;
+
+    private int hand;
+    private int size;
+
+    /** Tiempo simulado actual. */
+    private long now;
+    /** Ventana τ del conjunto de trabajo. */
+    private long window;
+
+    public WSClock() {
+        this(WorkingSet.DEFAULT_WINDOW);
+    }
+
+    /**
+     * @param window ventana τ en segundos simulados.
+     */
+    public WSClock(long window) {
+        setWindow(window);
+        this.occupiedBits = new long[INITIAL_FRAMES >>> 6];
+        this.referenceBits = new long[INITIAL_FRAMES >>> 6];
+        this.lastUse = new long[INITIAL_FRAMES];
+        this.pages = new Page[INITIAL_FRAMES];
+        reset();
+    }
+
+    @Override
+    public Page selectPageToReplace(List<Page> pagesInRAM) {
+        if (pagesInRAM == null || pagesInRAM.isEmpty()) {
+            return null;
+        }
+
+        if (size == 0) {
+            // No se avisó ninguna carga: cualquier página sirve
+            for (Page page : pagesInRAM) {
+                if (page != null) {
+                    return page;
+                }
+            }
+            return null;
+        }
+
+        // A lo más una vuelta
+        int frames = pages.length;
+        int oldest = -1;
+        for (int step = 0; step < frames; step++) {
+            int frame = hand;
+            hand = frame + 1 < frames ? frame + 1 : 0;
+            if (!is(occupiedBits, frame)) {
+                continue;
+            }
+            if (is(referenceBits, frame)) {
+                // Se usó desde la última pasada: está en el conjunto de trabajo
+                clear(referenceBits, frame);
+                lastUse[frame] = now;
+            } else if (now - lastUse[frame] > window) {
+                return pages[frame];
+            }
+            if (oldest == -1 || lastUse[frame] < lastUse[oldest]) {
+                oldest = frame;
+            }
+        }
+
+        // Todas dentro de la ventana: la de uso más antiguo
+        hand = oldest + 1 < frames ? oldest + 1 : 0;
+        return pages[oldest];
+    }
+
+    @Override
+    public void onLoad(Page page) {
+        if (page == null || page.getIndexOfPage() < 0) return;
+        int frame = page.getIndexOfPage();
+        ensureCapacity(frame);
+        if (!is(occupiedBits, frame)) {
+            set(occupiedBits, frame);
+            size++;
+        }
+        clear(referenceBits, frame);
+        lastUse[frame] = now;
+        pages[frame] = page;
+    }
+
+    @Override
+    public void onUse(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (frame < 0 || frame >= pages.length || pages[frame] != page) return;
+        set(referenceBits, frame);
+    }
+
+    @Override
+    public void onEvict(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (frame < 0 || frame >= pages.length || pages[frame] != page) return;
+        clear(occupiedBits, frame);
+        clear(referenceBits, frame);
+        pages[frame] = null;
+        size--;
+    }
+
+    @Override
+    public void onTimeAdvanced(long now) {
+        this.now = now;
+    }
+
+    /**
+     * @return cuántas páginas residentes están dentro de la ventana (o
+     * fueron referenciadas desde la última pasada de la manecilla).
+     */
+    public int getWorkingSetSize() {
+        int count = 0;
+        for (int frame = 0; frame < pages.length; frame++) {
+            if (is(occupiedBits, frame) && (is(referenceBits, frame) || now - lastUse[frame] <= window)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return el último uso anotado al marco, 0 si está libre.
+     */
+    public long getLastUse(int frame) {
+        if (frame < 0 || frame >= pages.length || !is(occupiedBits, frame)) {
+            return 0L;
+        }
+        return lastUse[frame];
+    }
+
+    public long getWindow() {
+        return window;
+    }
+
+    public final void setWindow(long window) {
+        if (window < 0) {
+            throw new IllegalArgumentException("Ventana inválida: " + window);
+        }
+        this.window = window;
+    }
+
+    private static boolean is(long[] bits, int frame) {
+        return (bits[frame >>> 6] & (1L << frame)) != 0L;
+    }
+
+    private static void set(long[] bits, int frame) {
+        bits[frame >>> 6] |= 1L << frame;
+    }
+
+    private static void clear(long[] bits, int frame) {
+        bits[frame >>> 6] &= ~(1L << frame);
+    }
+
+    private void ensureCapacity(int frame) {
+        if (frame < pages.length) {
+            return;
+        }
+        int frames = Math.max(pages.length * 2, (frame + 64) & ~63);
+        pages = Arrays.copyOf(pages, frames);
+        lastUse = Arrays.copyOf(lastUse, frames);
+        occupiedBits = Arrays.copyOf(occupiedBits, frames >>> 6);
+        referenceBits = Arrays.copyOf(referenceBits, frames >>> 6);
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(occupiedBits, 0L);
+        Arrays.fill(referenceBits, 0L);
+        Arrays.fill(lastUse, 0L);
+        Arrays.fill(pages, null);
+        this.hand = 0;
+        this.size = 0;
+        this.now = 0;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "WSClock";
+    }
+
+    @Override
+    public String getDetailedState() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== WSClock - Estado Actual ===\n");
+        sb.append("Tiempo: ").append(now).append("s, ventana: ").append(window).append("s\n");
+        sb.append("Páginas en el reloj: ").append(size).append("\n");
+        sb.append("Manecilla: marco ").append(hand).append("\n");
+
+        if (size > 0) {
+            sb.append("\nReloj (desde la manecilla):\n");
+            for (int i = 0; i < pages.length; i++) {
+                int frame = (hand + i) % pages.length;
+                if (is(occupiedBits, frame)) {
+                    sb.append(String.format("  Page %d: marco=%d bit=%d último uso t=%d\n", pages[frame].getId(),
+                        frame, is(referenceBits, frame) ? 1 : 0, lastUse[frame]));
+                }
+            }
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WSClock[páginas=%d, manecilla=%d, t=%d, τ=%d]", size, hand, now, window);
+    }
+}
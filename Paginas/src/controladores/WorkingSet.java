@@ -0,0 +1,215 @@
+package controladores;
+
+import modelos.Page;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Algoritmo Working Set (WS)
+ * El conjunto de trabajo son las páginas usadas en los últimos τ segundos
+ * de tiempo simulado. Las que quedan fuera de la ventana son las víctimas.
+ *
+ * Funcionamiento:
+ * - Cada marco guarda el tiempo simulado de su último uso
+ * - Al buscar víctima se recorren los marcos: la primera página con
+ *   edad (ahora - último uso) mayor que τ sale
+ * - Si todas están dentro de la ventana, sale la de uso más antiguo
+ * El tiempo es el de la MMU (TIME_HIT / TIME_FAULT), que llega con
+ * onTimeAdvanced después de cada instrucción.
+ *
+ * Implemntación:
+ * - Un long[] con el último uso por marco: usar una página es una escritura
+ * - La búsqueda es un recorrido lineal sobre ese arreglo, como el algoritmo
+ *   de libro (WSClock es la versión que no recorre todo)
+ */
+
+public class WorkingSet implements PageReplacementAlgorithm {
+
+    /** Ventana por defecto, en segundos simulados. */
+    public static final long DEFAULT_WINDOW = 500;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Page[] pages;
+    private long[] lastUse;
+    private int size;
+
+    /** Tiempo simulado actual. */
+    private long now;
+    /** Ventana τ del conjunto de trabajo. */
+    private long window;
+
+    public WorkingSet() {
+        this(DEFAULT_WINDOW);
+    }
+
+    /**
+     * @param window ventana τ en segundos simulados.
+     */
+    public WorkingSet(long window) {
+        setWindow(window);
+        this.pages = new Page[INITIAL_CAPACITY];
+        this.lastUse = new long[INITIAL_CAPACITY];
+        reset();
+    }
+
+    @Override
+    public Page selectPageToReplace(List<Page> pagesInRAM) {
+        if (pagesInRAM == null || pagesInRAM.isEmpty()) {
+            return null;
+        }
+
+        int oldest = -1;
+        for (int frame = 0; frame < pages.length; frame++) {
+            if (pages[frame] == null) {
+                continue;
+            }
+            if (now - lastUse[frame] > window) {
+                return pages[frame]; // Fuera del conjunto de trabajo
+            }
+            if (oldest == -1 || lastUse[frame] < lastUse[oldest]) {
+                oldest = frame;
+            }
+        }
+        if (oldest != -1) {
+            return pages[oldest];
+        }
+
+        // No se avisó ninguna carga: cualquier página sirve
+        for (Page page : pagesInRAM) {
+            if (page != null) {
+                return page;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void onLoad(Page page) {
+        if (page == null || page.getIndexOfPage() < 0) return;
+        int frame = page.getIndexOfPage();
+        ensureCapacity(frame);
+        if (pages[frame] == null) {
+            size++;
+        }
+        pages[frame] = page;
+        lastUse[frame] = now;
+    }
+
+    @Override
+    public void onUse(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (frame < 0 || frame >= pages.length || pages[frame] != page) {
+            onLoad(page); // No se avisó su carga
+            return;
+        }
+        lastUse[frame] = now;
+    }
+
+    @Override
+    public void onEvict(Page page) {
+        if (page == null) return;
+        int frame = page.getIndexOfPage();
+        if (frame < 0 || frame >= pages.length || pages[frame] != page) return;
+        pages[frame] = null;
+        size--;
+    }
+
+    @Override
+    public void onTimeAdvanced(long now) {
+        this.now = now;
+    }
+
+    /**
+     * @return cuántas páginas residentes están dentro de la ventana.
+     */
+    public int getWorkingSetSize() {
+        return getWorkingSetSize(-1);
+    }
+
+    /**
+     * @param pid el proceso, o -1 para todos.
+     * @return cuántas páginas residentes del proceso están dentro de la ventana.
+     */
+    public int getWorkingSetSize(int pid) {
+        int count = 0;
+        for (int frame = 0; frame < pages.length; frame++) {
+            Page page = pages[frame];
+            if (page != null && now - lastUse[frame] <= window
+                    && (pid == -1 || page.getOwnerPid() == pid)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return el último uso anotado al marco, 0 si está libre.
+     */
+    public long getLastUse(int frame) {
+        if (frame < 0 || frame >= pages.length || pages[frame] == null) {
+            return 0L;
+        }
+        return lastUse[frame];
+    }
+
+    public long getWindow() {
+        return window;
+    }
+
+    public final void setWindow(long window) {
+        if (window < 0) {
+            throw new IllegalArgumentException("Ventana inválida: " + window);
+        }
+        this.window = window;
+    }
+
+    private void ensureCapacity(int frame) {
+        if (frame < pages.length) {
+            return;
+        }
+        int newLength = Math.max(pages.length * 2, frame + 1);
+        pages = Arrays.copyOf(pages, newLength);
+        lastUse = Arrays.copyOf(lastUse, newLength);
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(pages, null);
+        Arrays.fill(lastUse, 0L);
+        this.size = 0;
+        this.now = 0;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "WS";
+    }
+
+    @Override
+    public String getDetailedState() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== Working Set - Estado Actual ===\n");
+        sb.append("Tiempo: ").append(now).append("s, ventana: ").append(window).append("s\n");
+        sb.append("Páginas rastreadas: ").append(size).append("\n");
+        sb.append("En el conjunto de trabajo: ").append(getWorkingSetSize()).append("\n");
+
+        if (size > 0) {
+            sb.append("\nÚltimo uso por marco:\n");
+            for (int frame = 0; frame < pages.length; frame++) {
+                if (pages[frame] != null) {
+                    sb.append(String.format("  Page %d: marco=%d último uso t=%d%s\n", pages[frame].getId(), frame,
+                        lastUse[frame], now - lastUse[frame] > window ? " (fuera)" : ""));
+                }
+            }
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WS[páginas=%d, t=%d, τ=%d]", size, now, window);
+    }
+}
@@ -4,7 +4,7 @@
  */
 package modelos;
 
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  *
@@ -18,14 +18,25 @@ public class Computer {
     /
     /-------------------------------*/
     
-    //RAM is the memory, must be used as an array!! Even if it's an arrayList.
-    //It's useful to have it in this type for it to come with more tools.
-    private ArrayList<Page> Ram;
+    //RAM is the memory, must be used as an array!! It's a fixed table with the
+    //Page of each frame, only changed through the methods below.
+    private FrameTable Ram;
     private final int amountOfPagesInRAM;
     
+    //Knows which frames are free, so nobody has to walk the RAM looking for a null.
+    private FrameAllocator frameAllocator;
+    
+    //Running total of the internal fragmentation of the pages in RAM.
+    //Updated on every place / evict / release so the stats never walk the RAM.
+    //It's a long: with GBs of RAM and big pages it doesn't fit in an int.
+    private long ramFragmentationInBytes;
+    
+    //RAM size and page size, everything else is computed from this.
+    private final ComputerConfig config;
+    
     private int amountOfCores;
     private int amountOfRamInKB; 
-    private ArrayList<Page> Disk;//Virtual limitless memory
+    private SwapArea Disk;//Virtual limitless memory
     private int pageKBSize;
     
     // This one is for the amount of instructions doable per second.
@@ -39,51 +50,50 @@ public class Computer {
     
     
     /**
-     *This is the default constructor for this project.
+     *This is the default constructor for this project (400 KB RAM, 4 KB pages).
      */
     public Computer(){
-        this.Disk = new ArrayList<>(); 
+        this(ComputerConfig.defaults());
+    }
+    
+    
+    /**
+     * Builds a computer with any geometry, even GBs of RAM.
+     * @param config RAM size and page size to use.
+     */
+    public Computer(ComputerConfig config){
+        this.config = config;
+        this.Disk = new SwapArea(); 
         this.amountOfCores = 1;
         this.instructionsPerSecond = 1;
-        this.pageKBSize = 4;
-        this.amountOfRamInKB = 400;
+        this.pageKBSize = config.getPageSizeInKB();
+        this.amountOfRamInKB = (int) config.getRamSizeInKB();
         
-        //int ensures no funny bussiness happens here.
-        this.amountOfPagesInRAM = amountOfRamInKB/pageKBSize;
-        this.Ram = new ArrayList<>(getAmountOfPagesInRAM());
-        
-        for(int i = 0; i < amountOfPagesInRAM; i++){
-            Ram.add(null);
-        }
+        this.amountOfPagesInRAM = config.getAmountOfFrames();
+        this.Ram = new FrameTable(amountOfPagesInRAM);
+        this.frameAllocator = new FrameAllocator(amountOfPagesInRAM);
 
     }
     
     
     /**
      * Gives the amount of real memory being used in the computer object.
+     * The allocator already counts the used frames.
      * @return amount of KB being used with the pages
      */
     public int getRealMemoryUsed(){
-        int i = 0;
-        for(Page page : getRam()){
-            if( page != null ) 
-                i++;
-        }
-        return i*getPageKBSize();
+        return frameAllocator.getUsedCount()*getPageKBSize();
     }
     
     
     /**
      * Gives the amount of virtual memory being in use on the computer object.
-     * @return amount of KB being used with the pages
+     * The swap area keeps the count, nothing is walked.
+     * @return amount of KB being used with the pages (the disk has no limit,
+     * so this is a long)
      */
-    public int getVirtualMemoryUsed(){
-        int i = 0;
-        for(Page page : getDisk()){
-            if( page != null ) 
-                i++;
-        }
-        return i*getPageKBSize();
+    public long getVirtualMemoryUsed(){
+        return (long) Disk.size()*getPageKBSize();
     }
     
     
@@ -96,18 +106,33 @@ public class Computer {
     }
     
     
+    /**
+     * Takes a page out of the disk using its swap slot. Used on swap-in and
+     * when a page on the disk gets deleted.
+     * @param page the page to take out
+     * @return true if the page was on the disk.
+     */
+    public boolean removePageFromDisk(Page page){
+        return Disk.remove(page);
+    }
+    
+    
     /**
      * Place a page in a specific position in memory
      * @param page the page that will be placed
      * @param index the index the page will have in the directory.
      */
     public void placePageInMemory(Page page, int index) {
-        if (index < 0 || index >= Ram.size()) {
-            throw new IndexOutOfBoundsException("Índice de marco de RAM fuera de rango: " + index);
+        Page previousPage = Ram.getPage(index);
+        if (previousPage != null) {
+            ramFragmentationInBytes -= previousPage.getFragmentationInBytes();
+            previousPage.setIndexOfPage(-1);
         }
         page.setIndexOfPage(index); // Asigna el marco a la página
         page.setIsInVirtualMemory(false); // Marca que está en RAM
-        Ram.set(index, page); // Usa SET, no ADD
+        Ram.set(index, page);
+        frameAllocator.markUsed(index);
+        ramFragmentationInBytes += page.getFragmentationInBytes();
     }
     
     
@@ -117,69 +142,135 @@ public class Computer {
      * @param index 
      */
     public Page sendPageToDisk(int index) {
-        if (index < 0 || index >= Ram.size()) {
-            throw new IndexOutOfBoundsException("Índice de marco de RAM fuera de rango: " + index);
-        }
-
-        Page movingPage = Ram.get(index); // Obtiene la página de ese marco
+        Page movingPage = Ram.remove(index); // Saca la página de ese marco
 
         if (movingPage != null) {
+            ramFragmentationInBytes -= movingPage.getFragmentationInBytes();
             movingPage.setIndexOfPage(-1); // Indica que ya no tiene un marco de RAM
             movingPage.setIsInVirtualMemory(true); // Marca que está en Disco
             Disk.add(movingPage); // Agrega al disco (el tamaño del disco sí es variable)
         }
 
-        Ram.set(index, null); // Libera el marco de RAM
+        frameAllocator.markFree(index);
         return movingPage;
     }
     
+    
+    /**
+     * Frees a frame without sending its page to the disk. Used when the page
+     * stops existing (delete / kill), the RAM must not be touched directly.
+     * @param index the frame to free
+     * @return the page that was in that frame, null if it was already free.
+     */
+    public Page releaseFrame(int index) {
+        Page releasedPage = Ram.remove(index);
+        if (releasedPage != null) {
+            ramFragmentationInBytes -= releasedPage.getFragmentationInBytes();
+            releasedPage.setIndexOfPage(-1); // Ya no tiene marco
+        }
+
+        frameAllocator.markFree(index);
+        return releasedPage;
+    }
+    
     //--------------------------------------------------------------------------
     
     
     /**
      * Gets the first free page possible.
+     * The allocator answers this without walking the RAM.
      *
      * @return The index of the first free frame, -1 if the RAM is full
      */
     public int findFreeFrameInRam() {
-        for (int i = 0; i < Ram.size(); i++) {
-            if (Ram.get(i) == null) {
-                return i;
-            }
-        }
-        return -1; // No hay marcos libres
+        return frameAllocator.firstFree();
     }
     
     
-    //Yay, reusing code is nice.
     public boolean isRamFull() {
-        return findFreeFrameInRam() == -1;
+        return frameAllocator.getFreeCount() == 0;
     }
     
     
     /**
      * Gets if a page is already loaded.
+     * The page already knows its frame, so it's enough to check that the frame
+     * points back to that same page. Costs the same with any amount of frames.
      * @param page The page that is being searched
      * @return true if it's there.
      */
     public boolean isPageInRam(Page page) {
-        return Ram.contains(page);//Yes this should be enough.
+        if (page == null) {
+            return false;
+        }
+        int index = page.getIndexOfPage();
+        return index >= 0 && index < Ram.getCapacity() && Ram.getPage(index) == page;
     }
-
+    
     
     /**
-     * Calcula la fragmentación interna total de todas las páginas cargadas en RAM.
+     * Checks that the page -> frame and frame -> page links agree, and that the
+     * free frame allocator agrees with the RAM. It walks everything, so it's
+     * meant for tests and for assert statements only.
      *
-     * @return El total de bytes desperdiciados en la RAM.
+     * @return true if everything is consistent.
+     * @throws IllegalStateException describing the first broken invariant.
      */
-    public int getTotalRamFragmentation() {
-        int totalFragmentation = 0;
-        for (Page page : Ram) {
-            if (page != null) {
-                totalFragmentation += page.getFragmentationInBytes();
+    public boolean checkInvariants() {
+        int usedFrames = 0;
+        long fragmentation = 0;
+        for (int i = 0; i < Ram.getCapacity(); i++) {
+            Page page = Ram.getPage(i);
+            if (page == null) {
+                if (!frameAllocator.isFree(i)) {
+                    throw new IllegalStateException("Marco " + i + " está vacío pero figura como ocupado.");
+                }
+                continue;
             }
+            usedFrames++;
+            fragmentation += page.getFragmentationInBytes();
+            if (frameAllocator.isFree(i)) {
+                throw new IllegalStateException("Marco " + i + " tiene una página pero figura como libre.");
+            }
+            if (page.getIndexOfPage() != i) {
+                throw new IllegalStateException("Marco " + i + " tiene una página que dice estar en el marco "
+                        + page.getIndexOfPage() + ".");
+            }
+            if (page.isIsInVirtualMemory()) {
+                throw new IllegalStateException("Marco " + i + " tiene una página marcada como V-RAM.");
+            }
+        }
+        if (usedFrames != frameAllocator.getUsedCount()) {
+            throw new IllegalStateException("Marcos ocupados: " + usedFrames
+                    + ", el asignador cuenta " + frameAllocator.getUsedCount() + ".");
+        }
+        if (fragmentation != ramFragmentationInBytes) {
+            throw new IllegalStateException("Fragmentación en RAM: " + fragmentation
+                    + " B, el contador dice " + ramFragmentationInBytes + " B.");
         }
-        return totalFragmentation;
+        for (Page page : Disk) {
+            if (!Disk.contains(page)) {
+                throw new IllegalStateException("Una página del disco no coincide con su slot "
+                        + page.getSwapSlot() + ".");
+            }
+            if (page.getIndexOfPage() != -1 || !page.isIsInVirtualMemory()) {
+                throw new IllegalStateException("Una página del disco aún dice estar en el marco "
+                        + page.getIndexOfPage() + ".");
+            }
+        }
+        return true;
+    }
+
+    
+    /**
+     * Fragmentación interna total de todas las páginas cargadas en RAM.
+     * Es un contador que se mantiene al colocar y sacar páginas, así que la
+     * fragmentación de una página debe fijarse ANTES de ponerla en RAM.
+     *
+     * @return El total de bytes desperdiciados en la RAM.
+     */
+    public long getTotalRamFragmentation() {
+        return ramFragmentationInBytes;
     }
 
     
@@ -188,13 +279,14 @@ public class Computer {
      */
     public void reset() {
         Disk.clear();
-        Ram.clear();
 
-        // Re-inicializar la RAM con 100 marcos nulos
-        int amountOfPagesInRAM = this.amountOfRamInKB / this.pageKBSize;
-        this.Ram = new ArrayList<>(amountOfPagesInRAM);
-        for (int i = 0; i < amountOfPagesInRAM; i++) {
-            Ram.add(null);
+        // Re-inicializar la RAM con todos sus marcos vacíos
+        Ram.clear();
+        ramFragmentationInBytes = 0;
+        if (frameAllocator.getCapacity() == amountOfPagesInRAM) {
+            frameAllocator.reset();
+        } else {
+            frameAllocator = new FrameAllocator(amountOfPagesInRAM);
         }
     }
     
@@ -206,12 +298,39 @@ public class Computer {
     /-------------------------------*/
 
     /**
-     * @return the Ram
+     * @return the Ram as a read only list, one element per frame (null if
+     * the frame is free). Use placePageInMemory / sendPageToDisk /
+     * releaseFrame to change it.
+     */
+    public List<Page> getRam() {
+        return Ram.asList();
+    }
+
+    /**
+     * @return the frame table behind the RAM, to read a frame by index
+     * without going through the list view.
      */
-    public ArrayList<Page> getRam() {
+    public FrameTable getFrameTable() {
         return Ram;
     }
 
+    /**
+     * @return the amount of frames that hold a page right now.
+     */
+    public int getUsedFrameCount() {
+        return frameAllocator.getUsedCount();
+    }
+
+    /**
+     * Gets one of the occupied frames without walking the RAM, meant for
+     * policies that sample frames (RND).
+     * @param position from 0 to getUsedFrameCount() - 1, the order is arbitrary.
+     * @return the frame index.
+     */
+    public int getUsedFrame(int position) {
+        return frameAllocator.getUsedFrame(position);
+    }
+
     /**
      * @return the amountOfCores
      */
@@ -229,7 +348,7 @@ public class Computer {
     /**
      * @return the Disk
      */
-    public ArrayList<Page> getDisk() {
+    public SwapArea getDisk() {
         return Disk;
     }
 
@@ -249,9 +368,21 @@ public class Computer {
 
     /**
      * @param Ram the entire array... yeah, don't use this unless you have to.
+     * It must have one element per frame (null for a free frame).
      */
-    public void setRam(ArrayList<Page> Ram) {
-        this.Ram = Ram;
+    public void setRam(List<Page> Ram) {
+        if (Ram.size() != amountOfPagesInRAM) {
+            throw new IllegalArgumentException("La RAM tiene " + amountOfPagesInRAM
+                    + " marcos, se recibieron " + Ram.size() + ".");
+        }
+        this.Ram.clear();
+        this.frameAllocator.reset();
+        this.ramFragmentationInBytes = 0;
+        for (int i = 0; i < Ram.size(); i++) {
+            if (Ram.get(i) != null) {
+                placePageInMemory(Ram.get(i), i);
+            }
+        }
     }
 
     /**
@@ -269,10 +400,15 @@ public class Computer {
     }
 
     /**
-     * @param Disk the Disk to set
+     * @param Disk the pages to put on the disk, each one gets a new slot.
      */
-    public void setDisk(ArrayList<Page> Disk) {
-        this.Disk = Disk;
+    public void setDisk(List<Page> Disk) {
+        this.Disk = new SwapArea();
+        for (Page page : Disk) {
+            if (page != null) {
+                this.Disk.add(page);
+            }
+        }
     }
 
     /**
@@ -289,6 +425,20 @@ public class Computer {
         this.instructionsPerSecond = instructionsPerSecond;
     }
 
+    /**
+     * @return the geometry this computer was built with
+     */
+    public ComputerConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * @return the page size in bytes
+     */
+    public int getPageSizeInBytes() {
+        return config.getPageSizeInBytes();
+    }
+
     /**
      * @return the amountOfPagesInRAM
      */
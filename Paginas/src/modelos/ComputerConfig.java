@@ -0,0 +1,101 @@
+package modelos;
+
+/**
+ * Geometry of the simulated machine: how much RAM it has and how big a page is.
+ *
+ * It's the single place where those numbers live. The Controller gives it to
+ * both MMUs and each MMU gives it to its Computer, so the amount of frames,
+ * the page size used to split a 'new' and the sizes shown in the GUI always
+ * agree.
+ *
+ * The default is the one asked by the project: 400 KB of RAM with 4 KB pages
+ * (100 frames). Big machines (16-64 GB, pages from 4 KB to 2 MB) just mean
+ * millions of frames.
+ */
+public class ComputerConfig {
+
+    public static final long KB = 1024L;
+    public static final long MB = 1024L * KB;
+    public static final long GB = 1024L * MB;
+
+    public static final long DEFAULT_RAM_SIZE_BYTES = 400 * KB;
+    public static final int DEFAULT_PAGE_SIZE_BYTES = (int) (4 * KB);
+
+    /** Arrays in Java can't go much higher than this. */
+    private static final long MAX_FRAMES = Integer.MAX_VALUE - 8;
+
+    private final long ramSizeInBytes;
+    private final int pageSizeInBytes;
+    private final int amountOfFrames;
+
+    /**
+     * @param ramSizeInBytes total real memory.
+     * @param pageSizeInBytes size of a page (and a frame), power of two and at least 1 KB.
+     */
+    public ComputerConfig(long ramSizeInBytes, int pageSizeInBytes) {
+        if (pageSizeInBytes < KB || Integer.bitCount(pageSizeInBytes) != 1) {
+            throw new IllegalArgumentException("Tamaño de página inválido (potencia de 2, mínimo 1 KB): "
+                    + pageSizeInBytes);
+        }
+        if (ramSizeInBytes < pageSizeInBytes) {
+            throw new IllegalArgumentException("La RAM (" + ramSizeInBytes
+                    + " B) debe tener al menos una página de " + pageSizeInBytes + " B.");
+        }
+        long frames = ramSizeInBytes / pageSizeInBytes;
+        if (frames > MAX_FRAMES) {
+            throw new IllegalArgumentException("Demasiados marcos para simular: " + frames);
+        }
+
+        this.ramSizeInBytes = frames * pageSizeInBytes; // Solo cuentan marcos completos
+        this.pageSizeInBytes = pageSizeInBytes;
+        this.amountOfFrames = (int) frames;
+    }
+
+    /**
+     * @return the project default: 400 KB of RAM, 4 KB pages.
+     */
+    public static ComputerConfig defaults() {
+        return new ComputerConfig(DEFAULT_RAM_SIZE_BYTES, DEFAULT_PAGE_SIZE_BYTES);
+    }
+
+    /**
+     * @return the ramSizeInBytes
+     */
+    public long getRamSizeInBytes() {
+        return ramSizeInBytes;
+    }
+
+    /**
+     * @return the RAM size in KB
+     */
+    public long getRamSizeInKB() {
+        return ramSizeInBytes / KB;
+    }
+
+    /**
+     * @return the pageSizeInBytes
+     */
+    public int getPageSizeInBytes() {
+        return pageSizeInBytes;
+    }
+
+    /**
+     * @return the page size in KB
+     */
+    public int getPageSizeInKB() {
+        return (int) (pageSizeInBytes / KB);
+    }
+
+    /**
+     * @return the amount of frames (pages that fit in RAM)
+     */
+    public int getAmountOfFrames() {
+        return amountOfFrames;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ComputerConfig[RAM=%d KB, página=%d KB, marcos=%d]",
+                getRamSizeInKB(), getPageSizeInKB(), amountOfFrames);
+    }
+}
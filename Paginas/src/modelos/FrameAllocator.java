@@ -0,0 +1,238 @@
+package modelos;
+
+import java.util.Arrays;
+
+/**
+ * Keeps track of which RAM frames are free.
+ *
+ * It is a word-packed bitmap (1 = free frame) with summary levels on top:
+ * every bit of a level says if the word below it still has a free frame.
+ * Looking for the lowest free frame only reads one word per level, so with
+ * 64 bits per word even 16M frames are resolved in 4 steps.
+ *
+ * The lowest free frame is always the one returned, just like the old
+ * linear scan over the RAM did.
+ *
+ * The frames in use are also kept in a dense array (swap-remove on free),
+ * so a policy can pick the k-th used frame in O(1) without skipping holes.
+ */
+public class FrameAllocator {
+
+    private final int capacity;
+
+    /** levels[0] are the frame bits, the last level is a single word. */
+    private final long[][] levels;
+
+    private int freeCount;
+
+    /** usedFrames[0..used) = frames in use, in no particular order. */
+    private int[] usedFrames;
+
+    /** usedPosition[frame] = where the frame is in usedFrames, -1 if free. */
+    private final int[] usedPosition;
+
+    /**
+     * Creates an allocator with every frame free.
+     * @param capacity amount of frames in the RAM.
+     */
+    public FrameAllocator(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Cantidad de marcos inválida: " + capacity);
+        }
+        this.capacity = capacity;
+
+        int depth = 1;
+        int words = wordsFor(capacity);
+        while (words > 1) {
+            words = wordsFor(words);
+            depth++;
+        }
+
+        this.levels = new long[depth][];
+        words = wordsFor(capacity);
+        for (int level = 0; level < depth; level++) {
+            levels[level] = new long[Math.max(words, 1)];
+            words = wordsFor(words);
+        }
+        this.usedFrames = new int[Math.min(capacity, 64)];
+        this.usedPosition = new int[capacity];
+        Arrays.fill(usedPosition, -1);
+        this.freeCount = capacity; // Ningún marco en uso todavía
+        reset();
+    }
+
+    /**
+     * Marks every frame as free again.
+     */
+    public final void reset() {
+        fillLevel(levels[0], capacity);
+        for (int level = 1; level < levels.length; level++) {
+            long[] below = levels[level - 1];
+            long[] current = levels[level];
+            Arrays.fill(current, 0L);
+            for (int i = 0; i < below.length; i++) {
+                if (below[i] != 0L) {
+                    current[i >>> 6] |= 1L << (i & 63);
+                }
+            }
+        }
+        // Solo se limpian las posiciones de los marcos que estaban en uso
+        for (int i = 0, used = capacity - freeCount; i < used; i++) {
+            usedPosition[usedFrames[i]] = -1;
+        }
+        this.freeCount = capacity;
+    }
+
+    /**
+     * Gets the lowest free frame.
+     * @return the index of the frame, -1 if every frame is in use.
+     */
+    public int firstFree() {
+        int top = levels.length - 1;
+        if (levels[top][0] == 0L) {
+            return -1;
+        }
+        int index = 0;
+        for (int level = top; level >= 0; level--) {
+            long word = levels[level][index];
+            index = (index << 6) + Long.numberOfTrailingZeros(word);
+        }
+        return index;
+    }
+
+    /**
+     * Marks a frame as taken. Does nothing if it already was.
+     * @param frame the frame index.
+     */
+    public void markUsed(int frame) {
+        checkIndex(frame);
+        int index = frame;
+        for (int level = 0; level < levels.length; level++) {
+            long[] words = levels[level];
+            int word = index >>> 6;
+            long bit = 1L << (index & 63);
+            if ((words[word] & bit) == 0L) {
+                return; // Ya estaba marcado en este nivel
+            }
+            if (level == 0) {
+                addUsed(frame);
+                freeCount--;
+            }
+            words[word] &= ~bit;
+            if (words[word] != 0L) {
+                return; // La palabra aún tiene marcos libres, el resumen no cambia
+            }
+            index = word;
+        }
+    }
+
+    /**
+     * Marks a frame as free. Does nothing if it already was.
+     * @param frame the frame index.
+     */
+    public void markFree(int frame) {
+        checkIndex(frame);
+        int index = frame;
+        for (int level = 0; level < levels.length; level++) {
+            long[] words = levels[level];
+            int word = index >>> 6;
+            long bit = 1L << (index & 63);
+            if ((words[word] & bit) != 0L) {
+                return;
+            }
+            if (level == 0) {
+                removeUsed(frame);
+                freeCount++;
+            }
+            boolean wasEmpty = words[word] == 0L;
+            words[word] |= bit;
+            if (!wasEmpty) {
+                return; // El resumen ya decía que había libres aquí
+            }
+            index = word;
+        }
+    }
+
+    /**
+     * @param frame the frame index.
+     * @return true if nothing is placed in that frame.
+     */
+    public boolean isFree(int frame) {
+        checkIndex(frame);
+        return (levels[0][frame >>> 6] & (1L << (frame & 63))) != 0L;
+    }
+
+    /**
+     * @return the amount of free frames.
+     */
+    public int getFreeCount() {
+        return freeCount;
+    }
+
+    /**
+     * @return the amount of frames in use.
+     */
+    public int getUsedCount() {
+        return capacity - freeCount;
+    }
+
+    /**
+     * Gets one of the frames in use by its position in the dense array.
+     * The order changes when frames are freed, it is only meant for sampling.
+     * @param position from 0 to getUsedCount() - 1.
+     * @return the frame index.
+     */
+    public int getUsedFrame(int position) {
+        if (position < 0 || position >= getUsedCount()) {
+            throw new IndexOutOfBoundsException("Posición de marco en uso fuera de rango: " + position);
+        }
+        return usedFrames[position];
+    }
+
+    /**
+     * @return the amount of frames handled.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private void checkIndex(int frame) {
+        if (frame < 0 || frame >= capacity) {
+            throw new IndexOutOfBoundsException("Índice de marco de RAM fuera de rango: " + frame);
+        }
+    }
+
+    private void addUsed(int frame) {
+        int used = capacity - freeCount;
+        if (used == usedFrames.length) {
+            usedFrames = Arrays.copyOf(usedFrames, Math.min(capacity, Math.max(used * 2, 64)));
+        }
+        usedFrames[used] = frame;
+        usedPosition[frame] = used;
+    }
+
+    private void removeUsed(int frame) {
+        int last = capacity - freeCount - 1;
+        int at = usedPosition[frame];
+        int lastFrame = usedFrames[last];
+        usedFrames[at] = lastFrame;
+        usedPosition[lastFrame] = at;
+        usedPosition[frame] = -1;
+    }
+
+    private static int wordsFor(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    private static void fillLevel(long[] words, int bits) {
+        Arrays.fill(words, 0L);
+        int fullWords = bits >>> 6;
+        for (int i = 0; i < fullWords; i++) {
+            words[i] = -1L;
+        }
+        int rest = bits & 63;
+        if (rest != 0) {
+            words[fullWords] = (1L << rest) - 1;
+        }
+    }
+}
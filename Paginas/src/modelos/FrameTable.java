@@ -0,0 +1,116 @@
+package modelos;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The frames of the RAM: a fixed array with the page of each frame (null if
+ * the frame is free).
+ *
+ * Only Computer changes it (set / remove), so the free frame allocator and
+ * the fragmentation counter always follow it. Everybody else reads it through
+ * asList(), a read only view.
+ */
+public class FrameTable {
+
+    private final int capacity;
+
+    private final Page[] pages;
+
+    private final List<Page> view;
+
+    /**
+     * Creates a table with every frame empty.
+     * @param capacity amount of frames of the RAM.
+     */
+    public FrameTable(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Cantidad de marcos inválida: " + capacity);
+        }
+        this.capacity = capacity;
+        this.pages = new Page[capacity];
+        this.view = new FrameView();
+    }
+
+    /**
+     * Puts a page in a frame, replacing whatever was there.
+     * @param frame the frame index.
+     * @param page the page to store.
+     */
+    public void set(int frame, Page page) {
+        checkIndex(frame);
+        pages[frame] = page;
+    }
+
+    /**
+     * Empties a frame.
+     * @param frame the frame index.
+     * @return the page that was there, null if it was already empty.
+     */
+    public Page remove(int frame) {
+        checkIndex(frame);
+        Page page = pages[frame];
+        pages[frame] = null;
+        return page;
+    }
+
+    /**
+     * Empties every frame.
+     */
+    public void clear() {
+        Arrays.fill(pages, null);
+    }
+
+    /**
+     * @param frame the frame index.
+     * @return true if the frame has a page.
+     */
+    public boolean isOccupied(int frame) {
+        checkIndex(frame);
+        return pages[frame] != null;
+    }
+
+    /**
+     * @param frame the frame index.
+     * @return the page in that frame, null if it's empty.
+     */
+    public Page getPage(int frame) {
+        checkIndex(frame);
+        return pages[frame];
+    }
+
+    /**
+     * @return the amount of frames.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return a read only list with the page of every frame (null = empty
+     * frame). It's a view, it always shows the current state of the table.
+     */
+    public List<Page> asList() {
+        return view;
+    }
+
+    private void checkIndex(int frame) {
+        if (frame < 0 || frame >= capacity) {
+            throw new IndexOutOfBoundsException("Índice de marco de RAM fuera de rango: " + frame);
+        }
+    }
+
+    private class FrameView extends AbstractList<Page> {
+
+        @Override
+        public Page get(int index) {
+            return getPage(index);
+        }
+
+        @Override
+        public int size() {
+            return capacity;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package modelos;
+
+import java.util.Arrays;
+
+/**
+ * A map from int to int that doesn't box anything.
+ *
+ * Open addressing with linear probing: keys and values are two plain arrays
+ * and a lookup walks forward from the hashed slot until it finds the key or
+ * an empty slot. Removing shifts the following entries back, so there are no
+ * tombstones and lookups never get slower after many deletes.
+ *
+ * Integer.MIN_VALUE marks an empty slot, so it can't be used as a key (ptrs,
+ * pids and page ids are never negative).
+ */
+public class IntIntMap {
+
+    static final int FREE = Integer.MIN_VALUE;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int maxFill;
+
+    public IntIntMap() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize amount of entries it should hold without growing.
+     */
+    public IntIntMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * @param key the key to look up.
+     * @param missing what to return if the key isn't there.
+     * @return the value of the key, or missing.
+     */
+    public int get(int key, int missing) {
+        int pos = indexOf(key);
+        return pos < 0 ? missing : values[pos];
+    }
+
+    public boolean containsKey(int key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Sets the value of a key, adding it if it wasn't there.
+     * @param key the key.
+     * @param value the value.
+     */
+    public void put(int key, int value) {
+        checkKey(key);
+        int pos = slot(key);
+        while (keys[pos] != FREE) {
+            if (keys[pos] == key) {
+                values[pos] = value;
+                return;
+            }
+            pos = (pos + 1) & mask;
+        }
+        keys[pos] = key;
+        values[pos] = value;
+        if (++size > maxFill) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * @param key the key to remove.
+     * @return true if the key was there.
+     */
+    public boolean remove(int key) {
+        int pos = indexOf(key);
+        if (pos < 0) {
+            return false;
+        }
+        shiftKeys(pos);
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every entry, keeping the table size.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        size = 0;
+    }
+
+    /**
+     * @return a copy of the keys, in no particular order.
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int n = 0;
+        for (int key : keys) {
+            if (key != FREE) {
+                result[n++] = key;
+            }
+        }
+        return result;
+    }
+
+    private int indexOf(int key) {
+        checkKey(key);
+        int pos = slot(key);
+        int current;
+        while ((current = keys[pos]) != FREE) {
+            if (current == key) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Fills the hole at pos moving back the entries that were pushed forward
+     * by it.
+     */
+    private void shiftKeys(int pos) {
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            int current;
+            while (true) {
+                current = keys[pos];
+                if (current == FREE) {
+                    keys[last] = FREE;
+                    return;
+                }
+                int home = slot(current);
+                // Se puede mover si su posición ideal no queda entre last y pos
+                if (last <= pos ? (last >= home || home > pos) : (last >= home && home > pos)) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = current;
+            values[last] = values[pos];
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != FREE) {
+                int pos = slot(key);
+                while (keys[pos] != FREE) {
+                    pos = (pos + 1) & mask;
+                }
+                keys[pos] = key;
+                values[pos] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, FREE);
+        mask = capacity - 1;
+        maxFill = capacity * 3 / 4;
+    }
+
+    private int slot(int key) {
+        return mix(key) & mask;
+    }
+
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    static int tableSizeFor(int expectedSize) {
+        int needed = Math.max(4, (int) Math.ceil(expectedSize / 0.75));
+        if (needed > (1 << 30)) {
+            throw new IllegalArgumentException("Tabla demasiado grande: " + expectedSize);
+        }
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+
+    static void checkKey(int key) {
+        if (key == FREE) {
+            throw new IllegalArgumentException("Integer.MIN_VALUE no se puede usar como llave.");
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package modelos;
+
+import java.util.Arrays;
+
+/**
+ * A map from int to objects that doesn't box the keys.
+ *
+ * Open addressing with linear probing: keys and values are two plain arrays
+ * and a lookup walks forward from the hashed slot until it finds the key or
+ * an empty slot. Removing shifts the following entries back, so there are no
+ * tombstones and lookups never get slower after many deletes.
+ *
+ * Works like IntIntMap, Integer.MIN_VALUE can't be used as a key.
+ */
+public class IntObjectMap<V> {
+
+    private static final int FREE = IntIntMap.FREE;
+
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int maxFill;
+
+    public IntObjectMap() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize amount of entries it should hold without growing.
+     */
+    public IntObjectMap(int expectedSize) {
+        allocate(IntIntMap.tableSizeFor(expectedSize));
+    }
+
+    /**
+     * @param key the key to look up.
+     * @return the value of the key, or null if it isn't there.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int pos = indexOf(key);
+        return pos < 0 ? null : (V) values[pos];
+    }
+
+    public boolean containsKey(int key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Sets the value of a key, adding it if it wasn't there.
+     * @param key the key.
+     * @param value the value.
+     * @return the old value of the key, null if it wasn't there.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        IntIntMap.checkKey(key);
+        int pos = slot(key);
+        while (keys[pos] != FREE) {
+            if (keys[pos] == key) {
+                V old = (V) values[pos];
+                values[pos] = value;
+                return old;
+            }
+            pos = (pos + 1) & mask;
+        }
+        keys[pos] = key;
+        values[pos] = value;
+        if (++size > maxFill) {
+            rehash(keys.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * @param key the key to remove.
+     * @return the value it had, null if the key wasn't there.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int pos = indexOf(key);
+        if (pos < 0) {
+            return null;
+        }
+        V old = (V) values[pos];
+        shiftKeys(pos);
+        size--;
+        return old;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every entry, keeping the table size.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * @return a copy of the keys, in no particular order.
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int n = 0;
+        for (int key : keys) {
+            if (key != FREE) {
+                result[n++] = key;
+            }
+        }
+        return result;
+    }
+
+    private int indexOf(int key) {
+        IntIntMap.checkKey(key);
+        int pos = slot(key);
+        int current;
+        while ((current = keys[pos]) != FREE) {
+            if (current == key) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Fills the hole at pos moving back the entries that were pushed forward
+     * by it.
+     */
+    private void shiftKeys(int pos) {
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            int current;
+            while (true) {
+                current = keys[pos];
+                if (current == FREE) {
+                    keys[last] = FREE;
+                    values[last] = null;
+                    return;
+                }
+                int home = slot(current);
+                // Se puede mover si su posición ideal no queda entre last y pos
+                if (last <= pos ? (last >= home || home > pos) : (last >= home && home > pos)) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = current;
+            values[last] = values[pos];
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != FREE) {
+                int pos = slot(key);
+                while (keys[pos] != FREE) {
+                    pos = (pos + 1) & mask;
+                }
+                keys[pos] = key;
+                values[pos] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        Arrays.fill(keys, FREE);
+        mask = capacity - 1;
+        maxFill = capacity * 3 / 4;
+    }
+
+    private int slot(int key) {
+        return IntIntMap.mix(key) & mask;
+    }
+}
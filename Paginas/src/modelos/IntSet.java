@@ -0,0 +1,165 @@
+package modelos;
+
+import java.util.Arrays;
+
+/**
+ * A set of ints that doesn't box anything.
+ *
+ * Open addressing with linear probing over a plain array: a lookup walks forward from the hashed slot until it finds the key or
+ * an empty slot. Removing shifts the following entries back, so there are no
+ * tombstones and lookups never get slower after many deletes.
+ *
+ * Works like IntIntMap, Integer.MIN_VALUE can't be added.
+ */
+public class IntSet {
+
+    private static final int FREE = IntIntMap.FREE;
+
+    private int[] keys;
+    private int mask;
+    private int size;
+    private int maxFill;
+
+    public IntSet() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize amount of values it should hold without growing.
+     */
+    public IntSet(int expectedSize) {
+        allocate(IntIntMap.tableSizeFor(expectedSize));
+    }
+
+    public boolean contains(int key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * @param key the value to add.
+     * @return true if it wasn't in the set.
+     */
+    public boolean add(int key) {
+        IntIntMap.checkKey(key);
+        int pos = slot(key);
+        while (keys[pos] != FREE) {
+            if (keys[pos] == key) {
+                return false;
+            }
+            pos = (pos + 1) & mask;
+        }
+        keys[pos] = key;
+        if (++size > maxFill) {
+            rehash(keys.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * @param key the value to remove.
+     * @return true if it was in the set.
+     */
+    public boolean remove(int key) {
+        int pos = indexOf(key);
+        if (pos < 0) {
+            return false;
+        }
+        shiftKeys(pos);
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every value, keeping the table size.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        size = 0;
+    }
+
+    /**
+     * @return a copy of the values, in no particular order.
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int n = 0;
+        for (int key : keys) {
+            if (key != FREE) {
+                result[n++] = key;
+            }
+        }
+        return result;
+    }
+
+    private int indexOf(int key) {
+        IntIntMap.checkKey(key);
+        int pos = slot(key);
+        int current;
+        while ((current = keys[pos]) != FREE) {
+            if (current == key) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Fills the hole at pos moving back the entries that were pushed forward
+     * by it.
+     */
+    private void shiftKeys(int pos) {
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            int current;
+            while (true) {
+                current = keys[pos];
+                if (current == FREE) {
+                    keys[last] = FREE;
+                    return;
+                }
+                int home = slot(current);
+                // Se puede mover si su posición ideal no queda entre last y pos
+                if (last <= pos ? (last >= home || home > pos) : (last >= home && home > pos)) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = current;
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        allocate(newCapacity);
+        for (int key : oldKeys) {
+            if (key != FREE) {
+                int pos = slot(key);
+                while (keys[pos] != FREE) {
+                    pos = (pos + 1) & mask;
+                }
+                keys[pos] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        Arrays.fill(keys, FREE);
+        mask = capacity - 1;
+        maxFill = capacity * 3 / 4;
+    }
+
+    private int slot(int key) {
+        return IntIntMap.mix(key) & mask;
+    }
+}
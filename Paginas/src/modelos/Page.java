@@ -10,25 +10,44 @@ package modelos;
  */
 public class Page {
     private int id;
+    /** Process that owns this page.*/
+    private int ownerPid;
     private int indexOfPage;
     private boolean isInVirtualMemory;
     private int extraValue;
     /** Stores the amount of bytes unused in this page. could be useful later.*/
     private int fragmentationInBytes;
+    /** Slot of the disk where this page is stored, -1 if it's not on the disk.*/
+    private int swapSlot;
     
     /**
-     * This is the constructor to set a page directly
+     * This is the constructor to set a page directly. The owner is the id,
+     * since that's how the pages were numbered (one id per process).
      * @param id
      * @param indexOfPage
      * @param isInVirtualMemory
      * @param extraValue
      */
     public Page(int id, int indexOfPage, boolean isInVirtualMemory, int extraValue){
+        this(id, id, indexOfPage, isInVirtualMemory, extraValue);
+    }
+    
+    /**
+     * Sets a page with an owner different from its id.
+     * @param id
+     * @param ownerPid the process the page belongs to
+     * @param indexOfPage
+     * @param isInVirtualMemory
+     * @param extraValue
+     */
+    public Page(int id, int ownerPid, int indexOfPage, boolean isInVirtualMemory, int extraValue){
         this.id = id;
+        this.ownerPid = ownerPid;
         this.extraValue = extraValue;
         this.indexOfPage = indexOfPage;
         this.isInVirtualMemory = isInVirtualMemory;
         this.fragmentationInBytes = 0;
+        this.swapSlot = -1;
     }
 
     /**
@@ -38,6 +57,13 @@ public class Page {
         return id;
     }
 
+    /**
+     * @return the ownerPid
+     */
+    public int getOwnerPid() {
+        return ownerPid;
+    }
+
     /**
      * @return the indexOfPage
      */
@@ -103,4 +129,19 @@ public class Page {
         this.fragmentationInBytes = fragmentationInBytes;
     }
     
+    /**
+     * @return the swapSlot
+     */
+    public int getSwapSlot() {
+        return swapSlot;
+    }
+    
+    /**
+     * Only the SwapArea should change this.
+     * @param swapSlot the swapSlot to set
+     */
+    public void setSwapSlot(int swapSlot) {
+        this.swapSlot = swapSlot;
+    }
+    
 }
@@ -0,0 +1,78 @@
+package modelos;
+
+import java.util.Arrays;
+
+/**
+ * Gives every page of a simulation its own id.
+ *
+ * Ids are dense: they start at 0 and a released id is given again before a
+ * new one is made (last released, first reused). So at any moment the ids in
+ * use are below getHighWater(), and an algorithm can keep its per-page data in
+ * a plain array indexed by page id instead of a hash map.
+ */
+public class PageIdAllocator {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Next id never given before. */
+    private int highWater;
+
+    /** Stack of released ids. */
+    private int[] freeIds;
+    private int freeTop;
+
+    public PageIdAllocator() {
+        this.freeIds = new int[INITIAL_CAPACITY];
+        reset();
+    }
+
+    /**
+     * @return an id that no live page has.
+     */
+    public int allocate() {
+        if (freeTop > 0) {
+            return freeIds[--freeTop];
+        }
+        if (highWater == Integer.MAX_VALUE) {
+            throw new IllegalStateException("No quedan ids de página.");
+        }
+        return highWater++;
+    }
+
+    /**
+     * Gives back the id of a page that stopped existing. The caller must not
+     * release the same id twice.
+     * @param id the id to release.
+     */
+    public void release(int id) {
+        if (id < 0 || id >= highWater) {
+            throw new IllegalArgumentException("Id de página que no fue asignado: " + id);
+        }
+        if (freeTop == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeIds.length * 2);
+        }
+        freeIds[freeTop++] = id;
+    }
+
+    /**
+     * @return every id in use is lower than this.
+     */
+    public int getHighWater() {
+        return highWater;
+    }
+
+    /**
+     * @return the amount of ids in use.
+     */
+    public int getLiveCount() {
+        return highWater - freeTop;
+    }
+
+    /**
+     * Forgets every id, the next one given is 0 again.
+     */
+    public final void reset() {
+        this.highWater = 0;
+        this.freeTop = 0;
+    }
+}
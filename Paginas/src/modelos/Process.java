@@ -1,6 +1,7 @@
 package modelos;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,14 +14,14 @@ import java.util.Map;
 public class Process {
     private int pid;
     private List<Instruction> instructionList;
-    private Map<Integer, Boolean> symbolTableMap; //ptr -> existe o no
+    private IntSet symbolTableMap; //ptrs que existen (sin boxing)
     private boolean active;
     private int instructionPointer;
 
     public Process(int pid) {
         this.pid = pid;
         this.instructionList = new ArrayList<>();
-        this.symbolTableMap = new HashMap<>();
+        this.symbolTableMap = new IntSet();
         this.active = true;
         this.instructionPointer = 0;
     }
@@ -45,18 +46,24 @@ public class Process {
     /**
      * Obtiene una lista de todos los punteros (ptrs) que este proceso posee actualmente.
      * Para simplificar la función de Kill()
-     * @return Una lista de IDs de punteros.
+     * @return Una lista de IDs de punteros, en orden ascendente.
      */
     public List<Integer> getOwnedPointers() {
-        // Devuelve una nueva lista de todas las llaves (ptrs) en el mapa
-        return new ArrayList<>(symbolTableMap.keySet());
+        // Devuelve una nueva lista de todos los ptrs del conjunto
+        int[] pointers = symbolTableMap.toArray();
+        Arrays.sort(pointers);
+        List<Integer> result = new ArrayList<>(pointers.length);
+        for (int ptr : pointers) {
+            result.add(ptr);
+        }
+        return result;
     }
     
     /**
      * Registra un puntero en la tabla de simbolos.
      */
     public void registerPointer(int ptr) {
-        symbolTableMap.put(ptr, true);
+        symbolTableMap.add(ptr);
     }
     
     /**
@@ -70,7 +77,7 @@ public class Process {
      * Verifica si un puntero existe en la tabla de simbolos.
      */
     public boolean pointerExists(int ptr) {
-        return symbolTableMap.containsKey(ptr);
+        return symbolTableMap.contains(ptr);
     }
 
     /**
@@ -132,7 +139,11 @@ public class Process {
     }
 
     public Map<Integer, Boolean> getSymbolTableMap() {
-        return new HashMap<>(symbolTableMap); // copia defensiva
+        Map<Integer, Boolean> copy = new HashMap<>(); // copia defensiva
+        for (int ptr : symbolTableMap.toArray()) {
+            copy.put(ptr, true);
+        }
+        return copy;
     }
 
     public boolean isActive() {
@@ -0,0 +1,172 @@
+package modelos;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The disk (virtual memory) of the computer, handled like a real swap area.
+ *
+ * Every page sent to the disk gets a slot and remembers it (Page.swapSlot),
+ * so taking it out again doesn't need to search for it. Freed slots go to a
+ * stack and are the first ones reused, so swap-out, swap-in and free are all
+ * O(1) no matter how many pages are on the disk.
+ */
+public class SwapArea implements Iterable<Page> {
+
+    private static final int INITIAL_SLOTS = 64;
+
+    private Page[] slots;
+
+    /** Stack of slots that were used once and are free now. */
+    private int[] freeSlots;
+    private int freeTop;
+
+    /** Slots below this index were used at least once. */
+    private int highWater;
+
+    /** Pages currently on the disk. */
+    private int size;
+
+    public SwapArea() {
+        this.slots = new Page[INITIAL_SLOTS];
+        this.freeSlots = new int[INITIAL_SLOTS];
+        clear();
+    }
+
+    /**
+     * Puts a page in a free slot of the disk.
+     * @param page the page to store.
+     * @return the slot given to the page.
+     */
+    public int add(Page page) {
+        if (page == null) {
+            throw new IllegalArgumentException("No se puede mandar una página nula al disco.");
+        }
+        if (contains(page)) {
+            return page.getSwapSlot();
+        }
+
+        int slot;
+        if (freeTop > 0) {
+            slot = freeSlots[--freeTop];
+        } else {
+            if (highWater == slots.length) {
+                slots = Arrays.copyOf(slots, slots.length * 2);
+            }
+            slot = highWater++;
+        }
+
+        slots[slot] = page;
+        page.setSwapSlot(slot);
+        size++;
+        return slot;
+    }
+
+    /**
+     * Takes a page out of the disk, either because it goes back to RAM or
+     * because it was deleted.
+     * @param page the page to take out.
+     * @return true if the page was on the disk.
+     */
+    public boolean remove(Page page) {
+        if (!contains(page)) {
+            return false;
+        }
+
+        int slot = page.getSwapSlot();
+        slots[slot] = null;
+        page.setSwapSlot(-1);
+
+        if (freeTop == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeTop++] = slot;
+        size--;
+        return true;
+    }
+
+    /**
+     * @param page the page to look for.
+     * @return true if that exact page is stored in its slot.
+     */
+    public boolean contains(Page page) {
+        if (page == null) {
+            return false;
+        }
+        int slot = page.getSwapSlot();
+        return slot >= 0 && slot < highWater && slots[slot] == page;
+    }
+
+    /**
+     * @param slot the slot to read.
+     * @return the page stored there, or null if the slot is free.
+     */
+    public Page get(int slot) {
+        if (slot < 0 || slot >= highWater) {
+            throw new IndexOutOfBoundsException("Slot de disco fuera de rango: " + slot);
+        }
+        return slots[slot];
+    }
+
+    /**
+     * @return the amount of pages currently on the disk.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the amount of slots that were used at least once.
+     */
+    public int getSlotCount() {
+        return highWater;
+    }
+
+    /**
+     * Empties the disk. The pages keep their old slot number, but since the
+     * slot no longer points to them they are not considered stored.
+     */
+    public final void clear() {
+        Arrays.fill(slots, 0, highWater, null);
+        this.freeTop = 0;
+        this.highWater = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Goes through the pages on the disk, in slot order.
+     */
+    @Override
+    public Iterator<Page> iterator() {
+        return new Iterator<Page>() {
+            private int next = advance(0);
+
+            private int advance(int from) {
+                while (from < highWater && slots[from] == null) {
+                    from++;
+                }
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next < highWater;
+            }
+
+            @Override
+            public Page next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Page page = slots[next];
+                next = advance(next + 1);
+                return page;
+            }
+        };
+    }
+}
@@ -5,9 +5,8 @@
 package modelos;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Represents the symbol table (Memory Map) of the MMU.
@@ -21,10 +20,11 @@ public class SymbolTable {
 
     /**
      * The core memory map.
-     * Key (Integer): The pointer ID (ptr).
+     * Key (int): The pointer ID (ptr).
      * Value (List<Page>): The list of pages assigned to that pointer.
+     * The key is a primitive int, so the lookup on every 'use' doesn't box.
      */
-    private final Map<Integer, List<Page>> pointerPageMap;
+    private final IntObjectMap<List<Page>> pointerPageMap;
 
     /**A global counter to ensure pointer IDs are unique. */
     private int nextPointerId;
@@ -35,7 +35,7 @@ public class SymbolTable {
      * Constructor.
      */
     public SymbolTable() {
-        this.pointerPageMap = new HashMap<>();
+        this.pointerPageMap = new IntObjectMap<>();
         // We start pointers at 1 (or any number > 0) for clarity.
         this.nextPointerId = 1;
     }
@@ -102,9 +102,15 @@ public class SymbolTable {
     /**
      * Returns a list of all currently active pointers (ptr).
      *
-     * @return A list of pointer IDs (Integers).
+     * @return A list of pointer IDs (Integers), in ascending order.
      */
     public List<Integer> getAllActivePointers() {
-        return new ArrayList<>(this.pointerPageMap.keySet());
+        int[] pointers = this.pointerPageMap.keys();
+        Arrays.sort(pointers);
+        List<Integer> result = new ArrayList<>(pointers.length);
+        for (int ptr : pointers) {
+            result.add(ptr);
+        }
+        return result;
     }
 }
\ No newline at end of file
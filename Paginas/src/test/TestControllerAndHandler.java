@@ -49,6 +49,9 @@ public class TestControllerAndHandler {
         runTest("Test 04: Simulación Completa (End-to-End) y Estadísticas", 
                 TestControllerAndHandler::test04_FullSimulationRun);
 
+        runTest("Test 05: Modo Generado con OPT (lista intercalada)", 
+                TestControllerAndHandler::test05_GeneratedModeOpt);
+
         System.out.println("\n=== FIN DE PRUEBAS ===");
     }
 
@@ -220,10 +223,64 @@ public class TestControllerAndHandler {
         assertEq(mmuUser.getThrashingTime(), THRASHING_ESPERADO, 
                  "MRU: El tiempo de thrashing debe ser 0s");
 
+        // Los contadores incrementales deben quedar en cero tras los 'kill'
+        assertEq(mmuUser.getActiveProcessCount(), 0, "MRU: No deben quedar procesos activos");
+        assertEq(mmuOpt.getActiveProcessCount(), 0, "OPT: No deben quedar procesos activos");
+        assertEq(mmuUser.getComputer().getRealMemoryUsed(), 0, "MRU: La RAM debe quedar libre");
+        assertEq(mmuUser.getComputer().getTotalRamFragmentation(), 0L, "MRU: Sin fragmentación al final");
+
         new File(TEST_FILE_NAME).delete(); // Limpiar
         return true;
     }
     
+    /**
+     * En modo generado la lista intercalada debe existir antes de correr:
+     * ptrs renumerados en orden de ejecución, ambas MMUs la consumen completa
+     * y OPT nunca hace más fallos que el algoritmo del usuario.
+     */
+    private static boolean test05_GeneratedModeOpt() {
+        InstructionFileHandler handler = new InstructionFileHandler();
+        int P = 8;
+        int N = 2000;
+        long SEED = 42L;
+        InstructionFileHandler.SimulationData data = handler.generateProcesses(P, N, SEED);
+
+        // Los 'new' de la lista intercalada reciben los ptrs 1, 2, 3... en orden,
+        // y cada 'use'/'delete' apunta a un ptr ya creado
+        int nextPtr = 1;
+        for (Instruction inst : data.instructions) {
+            if (inst instanceof New) {
+                nextPtr++;
+            } else if (inst instanceof Use) {
+                assert ((Use) inst).getPtr() < nextPtr : "use antes de su new: " + inst.toFileFormat();
+            } else if (inst instanceof Delete) {
+                assert ((Delete) inst).getPtr() < nextPtr : "delete antes de su new: " + inst.toFileFormat();
+            }
+        }
+
+        // RAM pequeña para que haya fallos
+        ComputerConfig config = new ComputerConfig(64 * 1024, 4096);
+        Controller controller = new Controller();
+        controller.setupSimulation(new FIFO(), SEED, null, P, N, config);
+        controller.resumeSimulation();
+        int steps = 0;
+        while (!controller.isPaused()) {
+            controller.stepSimulation();
+            steps++;
+        }
+        assertEq(steps, N + 1, "Debe ejecutar las N instrucciones y luego pausarse");
+
+        MMU mmuOpt = controller.getMmuOpt();
+        MMU mmuUser = controller.getMmuUser();
+        assert mmuUser.getThrashingTime() > 0 : "FIFO debe tener fallos con 16 marcos";
+        assert mmuOpt.getThrashingTime() <= mmuUser.getThrashingTime()
+                : "OPT no puede fallar más que FIFO: " + mmuOpt.getThrashingTime()
+                  + " > " + mmuUser.getThrashingTime();
+        assertEq(mmuOpt.getActiveProcessCount(), 0, "OPT: No deben quedar procesos activos");
+        assertEq(mmuUser.getActiveProcessCount(), 0, "FIFO: No deben quedar procesos activos");
+        return true;
+    }
+
 
     // --- Métodos Ayudantes para Pruebas (copiados de TestModelIntegracion) ---
 
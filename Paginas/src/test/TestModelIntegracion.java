@@ -5,11 +5,22 @@
 package test;
 
 import modelos.Computer;
+import modelos.ComputerConfig;
+import modelos.FrameAllocator;
+import modelos.FrameTable;
+import modelos.IntIntMap;
+import modelos.IntObjectMap;
+import modelos.IntSet;
 import modelos.New;
 import modelos.Page;
+import modelos.PageIdAllocator;
+import modelos.SwapArea;
 import modelos.SymbolTable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 
 //Code done by gemini to test my methods, have to addmit that honestly.
 
@@ -46,6 +57,12 @@ public class TestModelIntegracion {
         runTest("Test 03: Llenado de RAM y Paginación (Swap)", TestModelIntegracion::test03_RamFullAndPaging);
         runTest("Test 04: Desasignación (Delete)", TestModelIntegracion::test04_Deletion);
         runTest("Test 05: Reseteo del Sistema", TestModelIntegracion::test05_Reset);
+        runTest("Test 06: Asignador de Marcos a Gran Escala", TestModelIntegracion::test06_FrameAllocatorAtScale);
+        runTest("Test 07: Área de Swap por Slots", TestModelIntegracion::test07_SwapArea);
+        runTest("Test 08: Geometría Configurable (GBs de RAM)", TestModelIntegracion::test08_LargeGeometry);
+        runTest("Test 09: Tabla de Marcos", TestModelIntegracion::test09_FrameTable);
+        runTest("Test 10: Ids Únicos de Página", TestModelIntegracion::test10_PageIds);
+        runTest("Test 11: Mapas Primitivos (IntIntMap, IntSet, IntObjectMap)", TestModelIntegracion::test11_PrimitiveMaps);
 
         System.out.println("\n=== FIN DE PRUEBAS ===");
     }
@@ -56,7 +73,7 @@ public class TestModelIntegracion {
     private static boolean test01_InitialState() {
         assertEq(computer.getRam().size(), RAM_SIZE_PAGES, "RAM debe tener 100 marcos");
         assertEq(computer.getRealMemoryUsed(), 0, "RAM usada debe ser 0 KB");
-        assertEq(computer.getVirtualMemoryUsed(), 0, "V-RAM usada debe ser 0 KB");
+        assertEq(computer.getVirtualMemoryUsed(), 0L, "V-RAM usada debe ser 0 KB");
         assertEq(computer.isRamFull(), false, "RAM no debe estar llena");
         assertEq(computer.findFreeFrameInRam(), 0, "Primer marco libre debe ser el 0");
         assertEq(symTable.getAllActivePointers().size(), 0, "Tabla de Símbolos debe estar vacía");
@@ -92,7 +109,7 @@ public class TestModelIntegracion {
         assertEq(p1.getIndexOfPage(), 0, "Página p1 debe estar en marco 0");
         assertEq(p2.getIndexOfPage(), 1, "Página p2 debe estar en marco 1");
         assertEq(computer.isPageInRam(p1), true, "p1 debe estar en RAM");
-        assertEq(computer.getTotalRamFragmentation(), 0, "Fragmentación debe ser 0");
+        assertEq(computer.getTotalRamFragmentation(), 0L, "Fragmentación debe ser 0");
 
         // --- Escenario 2: new(2, 5000) -> 2 páginas, con fragmentación
         New inst2 = new New(2, 5000);
@@ -118,7 +135,7 @@ public class TestModelIntegracion {
         computer.placePageInMemory(p3, 2); // Coloca en marco 2
         computer.placePageInMemory(p4, 3); // Coloca en marco 3
         assertEq(computer.getRealMemoryUsed(), 16, "RAM usada debe ser 16 KB (4 pag * 4KB)");
-        assertEq(computer.getTotalRamFragmentation(), 3192, "Fragmentación total debe ser 3192B");
+        assertEq(computer.getTotalRamFragmentation(), 3192L, "Fragmentación total debe ser 3192B");
         assertEq(computer.findFreeFrameInRam(), 4, "Siguiente marco libre debe ser 4");
 
         return true;
@@ -157,7 +174,9 @@ public class TestModelIntegracion {
         assertEq(computer.getRam().get(0), null, "Marco 0 debe estar libre (null)");
         assertEq(computer.isRamFull(), false, "RAM ya no debe estar llena");
         assertEq(computer.findFreeFrameInRam(), 0, "Marco 0 debe ser el primero libre");
-        assertEq(computer.getVirtualMemoryUsed(), 4, "V-RAM usada debe ser 4 KB");
+        assertEq(computer.getVirtualMemoryUsed(), 4L, "V-RAM usada debe ser 4 KB");
+        assertEq(computer.isPageInRam(victim), false, "p1 ya no debe estar en RAM");
+        assertEq(computer.checkInvariants(), true, "Marcos y páginas deben coincidir tras el swap");
 
         // La MMU ahora carga una nueva página (p_new) en el espacio libre
         Page p_new = new Page(100, -1, false, 0);
@@ -165,6 +184,11 @@ public class TestModelIntegracion {
         assertEq(computer.getRam().get(0), p_new, "p_new debe estar en marco 0");
         assertEq(computer.isRamFull(), true, "RAM debe estar llena de nuevo");
         assertEq(computer.getRealMemoryUsed(), 400, "RAM usada debe ser 400 KB");
+        assertEq(computer.isPageInRam(p_new), true, "p_new debe estar en RAM");
+
+        // Una página que dice estar en el marco 0 pero no es la que está ahí
+        Page impostora = new Page(101, 0, false, 0);
+        assertEq(computer.isPageInRam(impostora), false, "Solo cuenta la página que el marco apunta");
 
         return true;
     }
@@ -176,7 +200,7 @@ public class TestModelIntegracion {
         // Vamos a borrar ptr 2 (páginas p3 y p4, en marcos 2 y 3).
         // p4 tiene la fragmentación de 3192B.
         assertEq(symTable.pointerExists(2), true, "ptr 2 debe existir antes de borrar");
-        assertEq(computer.getTotalRamFragmentation(), 3192, "Fragmentación debe ser 3192B");
+        assertEq(computer.getTotalRamFragmentation(), 3192L, "Fragmentación debe ser 3192B");
 
         // 1. MMU elimina el puntero de la tabla
         List<Page> pagesToRemove = symTable.removePointer(2);
@@ -187,8 +211,8 @@ public class TestModelIntegracion {
         // (En una simulación real, la MMU iteraría sobre pagesToRemove)
         assertEq(computer.getRam().get(2).getId(), 2, "Marco 2 debe tener p3");
         assertEq(computer.getRam().get(3).getId(), 2, "Marco 3 debe tener p4");
-        computer.getRam().set(2, null);
-        computer.getRam().set(3, null);
+        computer.releaseFrame(2);
+        computer.releaseFrame(3);
 
         // 3. Verificar estado
         assertEq(computer.isRamFull(), false, "RAM no debe estar llena post-delete");
@@ -197,7 +221,7 @@ public class TestModelIntegracion {
         assertEq(computer.getRealMemoryUsed(), 392, "RAM usada debe ser 392 KB");
         
         // La página (p4) con la fragmentación fue eliminada
-        assertEq(computer.getTotalRamFragmentation(), 0, "Fragmentación debe ser 0 post-delete");
+        assertEq(computer.getTotalRamFragmentation(), 0L, "Fragmentación debe ser 0 post-delete");
 
         return true;
     }
@@ -215,6 +239,201 @@ public class TestModelIntegracion {
         return test01_InitialState();
     }
 
+    /**
+     * Prueba el asignador de marcos libres con un millón de marcos:
+     * siempre debe entregar el marco libre más bajo.
+     */
+    private static boolean test06_FrameAllocatorAtScale() {
+        int marcos = 1_000_000;
+        FrameAllocator allocator = new FrameAllocator(marcos);
+        assertEq(allocator.firstFree(), 0, "Primer marco libre debe ser el 0");
+
+        for (int i = 0; i < marcos; i++) {
+            allocator.markUsed(allocator.firstFree());
+        }
+        assertEq(allocator.firstFree(), -1, "No debe haber marcos libres");
+        assertEq(allocator.getFreeCount(), 0, "Contador de libres debe ser 0");
+
+        allocator.markFree(765_432);
+        allocator.markFree(4_100);
+        assertEq(allocator.firstFree(), 4_100, "Debe entregar el marco libre más bajo");
+        allocator.markUsed(4_100);
+        assertEq(allocator.firstFree(), 765_432, "Luego el siguiente marco libre");
+        assertEq(allocator.getUsedCount(), marcos - 1, "Solo un marco libre");
+
+        // El arreglo denso de marcos en uso no debe tener al marco libre
+        boolean libreEnUso = false;
+        for (int i = 0; i < allocator.getUsedCount(); i++) {
+            libreEnUso |= allocator.getUsedFrame(i) == 765_432;
+        }
+        assertEq(libreEnUso, false, "El marco libre no debe estar entre los usados");
+
+        allocator.reset();
+        assertEq(allocator.getFreeCount(), marcos, "Reset libera todos los marcos");
+        allocator.markUsed(42);
+        assertEq(allocator.getUsedCount(), 1, "Tras el reset solo hay un marco usado");
+        assertEq(allocator.getUsedFrame(0), 42, "El marco usado está en la posición 0");
+        return true;
+    }
+
+    /**
+     * Prueba que el disco reutiliza los slots liberados y que sacar una
+     * página no mueve a las demás.
+     */
+    private static boolean test07_SwapArea() {
+        SwapArea disco = new SwapArea();
+        List<Page> paginas = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            Page p = new Page(i, -1, true, 0);
+            paginas.add(p);
+            assertEq(disco.add(p), i, "Cada página nueva va al siguiente slot");
+        }
+        assertEq(disco.size(), 10_000, "Disco debe tener 10000 páginas");
+
+        Page medio = paginas.get(5_000);
+        assertEq(disco.remove(medio), true, "La página del medio debe salir del disco");
+        assertEq(medio.getSwapSlot(), -1, "La página sacada ya no tiene slot");
+        assertEq(disco.contains(medio), false, "La página sacada no debe estar en disco");
+        assertEq(disco.remove(medio), false, "No se puede sacar dos veces");
+        assertEq(disco.get(5_001), paginas.get(5_001), "Las demás páginas no se mueven");
+
+        Page nueva = new Page(-1, -1, true, 0);
+        assertEq(disco.add(nueva), 5_000, "El slot liberado se reutiliza");
+        assertEq(disco.size(), 10_000, "Disco vuelve a tener 10000 páginas");
+        return true;
+    }
+
+    /**
+     * Prueba máquinas grandes: 16 GB con páginas de 4 KB (millones de marcos)
+     * y 64 GB con páginas de 2 MB.
+     */
+    private static boolean test08_LargeGeometry() {
+        ComputerConfig config = new ComputerConfig(16 * ComputerConfig.GB, PAGE_SIZE_BYTES);
+        assertEq(config.getAmountOfFrames(), 4_194_304, "16 GB / 4 KB son 4M marcos");
+
+        Computer grande = new Computer(config);
+        assertEq(grande.getAmountOfPagesInRAM(), 4_194_304, "La RAM debe tener 4M marcos");
+        assertEq(grande.getAmountOfRamInKB(), 16 * 1024 * 1024, "La RAM debe medir 16 GB");
+
+        Page p = new Page(1, -1, false, 0);
+        p.setFragmentationInBytes(100);
+        grande.placePageInMemory(p, 4_000_000);
+        assertEq(grande.findFreeFrameInRam(), 0, "El marco 0 sigue libre");
+        assertEq(grande.isPageInRam(p), true, "La página debe estar en RAM");
+        assertEq(grande.getRealMemoryUsed(), 4, "Una página usa 4 KB");
+        assertEq(grande.getTotalRamFragmentation(), 100L, "Fragmentación de una página");
+
+        ComputerConfig paginasGrandes = new ComputerConfig(64 * ComputerConfig.GB, (int) (2 * ComputerConfig.MB));
+        assertEq(paginasGrandes.getAmountOfFrames(), 32_768, "64 GB / 2 MB son 32768 marcos");
+        assertEq(paginasGrandes.getPageSizeInKB(), 2048, "Página de 2 MB son 2048 KB");
+
+        try {
+            new ComputerConfig(400 * ComputerConfig.KB, 3000);
+            throw new AssertionError("Una página que no es potencia de 2 debe rechazarse");
+        } catch (IllegalArgumentException e) {
+            // Esperado
+        }
+        return true;
+    }
+
+    /**
+     * Prueba que la tabla de marcos siga a la página que está en cada marco,
+     * y que la vista de la RAM sea de solo lectura.
+     */
+    private static boolean test09_FrameTable() {
+        Computer pc = new Computer();
+        FrameTable tabla = pc.getFrameTable();
+
+        Page p = new Page(7, 3, -1, false, 0);
+        p.setFragmentationInBytes(500);
+        pc.placePageInMemory(p, 5);
+        assertEq(tabla.isOccupied(5), true, "Marco 5 debe estar ocupado");
+        assertEq(tabla.getPage(5), p, "El marco guarda la página");
+        assertEq(pc.getTotalRamFragmentation(), 500L, "Fragmentación con la página en RAM");
+        assertEq(pc.getRam().get(5), p, "La vista muestra la página");
+
+        pc.sendPageToDisk(5);
+        assertEq(tabla.isOccupied(5), false, "Marco 5 debe quedar libre");
+        assertEq(tabla.getPage(5), null, "Sin página en un marco libre");
+        assertEq(pc.getTotalRamFragmentation(), 0L, "La fragmentación sale con la página");
+        assertEq(pc.checkInvariants(), true, "Invariantes tras swap-out");
+
+        try {
+            pc.getRam().set(0, p);
+            throw new AssertionError("La vista de la RAM no debe dejar cambiar marcos");
+        } catch (UnsupportedOperationException e) {
+            // Esperado
+        }
+        return true;
+    }
+
+    /**
+     * Prueba que los ids de página sean únicos, densos y se reutilicen.
+     */
+    private static boolean test10_PageIds() {
+        PageIdAllocator ids = new PageIdAllocator();
+        assertEq(ids.allocate(), 0, "Primer id");
+        assertEq(ids.allocate(), 1, "Segundo id");
+        assertEq(ids.allocate(), 2, "Tercer id");
+
+        ids.release(1);
+        assertEq(ids.getLiveCount(), 2, "Dos ids vivos");
+        assertEq(ids.allocate(), 1, "El id liberado se reutiliza");
+        assertEq(ids.allocate(), 3, "Luego sigue el contador");
+        assertEq(ids.getHighWater(), 4, "Todos los ids son menores que 4");
+
+        Page p = new Page(ids.allocate(), 7, -1, false, 0);
+        assertEq(p.getId(), 4, "La página usa el id asignado");
+        assertEq(p.getOwnerPid(), 7, "El PID va aparte del id");
+
+        ids.reset();
+        assertEq(ids.allocate(), 0, "Tras reset se empieza de 0");
+        return true;
+    }
+
+    /**
+     * Compara los mapas primitivos contra HashMap / HashSet con operaciones
+     * al azar (muchos borrados, para probar el corrimiento al borrar).
+     */
+    private static boolean test11_PrimitiveMaps() {
+        Random rand = new Random(12);
+        IntIntMap mapa = new IntIntMap();
+        IntSet conjunto = new IntSet();
+        IntObjectMap<String> objetos = new IntObjectMap<>();
+        Map<Integer, Integer> esperado = new HashMap<>();
+
+        for (int i = 0; i < 20000; i++) {
+            int key = rand.nextInt(500);
+            if (rand.nextInt(3) == 0) {
+                boolean estaba = esperado.remove(key) != null;
+                assertEq(mapa.remove(key), estaba, "remove en IntIntMap");
+                assertEq(conjunto.remove(key), estaba, "remove en IntSet");
+                assertEq(objetos.remove(key) != null, estaba, "remove en IntObjectMap");
+            } else {
+                boolean nuevo = !esperado.containsKey(key);
+                esperado.put(key, i);
+                mapa.put(key, i);
+                assertEq(conjunto.add(key), nuevo, "add en IntSet");
+                objetos.put(key, "v" + i);
+            }
+        }
+
+        assertEq(mapa.size(), esperado.size(), "Mismo tamaño que el HashMap");
+        assertEq(conjunto.size(), esperado.size(), "Mismo tamaño que el HashSet");
+        assertEq(objetos.size(), esperado.size(), "Mismo tamaño en IntObjectMap");
+        for (int key = 0; key < 500; key++) {
+            Integer valor = esperado.get(key);
+            assertEq(mapa.get(key, -1), valor == null ? -1 : valor, "Valor de la llave " + key);
+            assertEq(conjunto.contains(key), valor != null, "Pertenencia de " + key);
+            assertEq(objetos.get(key), valor == null ? null : "v" + valor, "Objeto de la llave " + key);
+        }
+
+        mapa.clear();
+        assertEq(mapa.isEmpty(), true, "clear vacía el mapa");
+        assertEq(mapa.containsKey(1), false, "Nada tras clear");
+        return true;
+    }
+
     // --- Métodos Ayudantes para Pruebas ---
 
     /**
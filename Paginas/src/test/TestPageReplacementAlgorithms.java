@@ -16,15 +16,54 @@ public class TestPageReplacementAlgorithms {
         
         testFIFO();
         System.out.println("\n" + "=".repeat(50) + "\n");
+        testFIFOContraReferencia();
+        System.out.println("\n" + "=".repeat(50) + "\n");
         testMRU();
+        System.out.println("\n" + "=".repeat(50) + "\n");
+        testMRUContraReferencia();
+        System.out.println("\n" + "=".repeat(50) + "\n");
+        testLRUContraReferencia();
+        System.out.println("\n" + "=".repeat(50) + "\n");
+        testLFUContraReferencia();
 
         testSecondChance();
         System.out.println("\n" + "=".repeat(60) + "\n");
+        testSCContraReferencia();
+        System.out.println("\n" + "=".repeat(60) + "\n");
         
         testRandom();
         System.out.println("\n" + "=".repeat(60) + "\n");
+        testRNDMarcosOcupados();
+        System.out.println("\n" + "=".repeat(60) + "\n");
+        
+        testARCContraReferencia();
+        System.out.println("\n" + "=".repeat(60) + "\n");
+        
+        testClockProBarridos();
+        System.out.println("\n" + "=".repeat(60) + "\n");
+        
+        testLIRSCiclos();
+        System.out.println("\n" + "=".repeat(60) + "\n");
+        
+        testWorkingSet();
+        System.out.println("\n" + "=".repeat(60) + "\n");
+        
+        testAging();
+        System.out.println("\n" + "=".repeat(60) + "\n");
+        
+        testMGLRU();
+        System.out.println("\n" + "=".repeat(60) + "\n");
+        
+        testS3FIFO();
+        System.out.println("\n" + "=".repeat(60) + "\n");
         
         testOPT();
+        System.out.println("\n" + "=".repeat(60) + "\n");
+        
+        testOPTContraReferencia();
+        System.out.println("\n" + "=".repeat(60) + "\n");
+        
+        testEventosMMU();
         
         System.out.println("\n=== FIN DE LOS TESTS ===");
     }
@@ -91,6 +130,175 @@ public class TestPageReplacementAlgorithms {
         System.out.println(fifo.getDetailedState());
     }
     
+    /**
+     * Compara FIFO contra una cola de referencia con cargas, víctimas y
+     * evicts arbitrarios (como los de un delete).
+     */
+    private static void testFIFOContraReferencia() {
+        System.out.println("--- TEST FIFO CONTRA REFERENCIA ---");
+        java.util.LinkedList<Page> cola = new java.util.LinkedList<>();
+        compararContraReferencia(new FIFO(), new Referencia() {
+            public void load(Page p) { cola.addLast(p); }
+            public void use(Page p) { }
+            public void evict(Page p) { cola.remove(p); }
+            public Page victim() { return cola.getFirst(); }
+        }, 11);
+    }
+    
+    /**
+     * Compara MRU contra una pila de referencia.
+     */
+    private static void testMRUContraReferencia() {
+        System.out.println("--- TEST MRU CONTRA REFERENCIA ---");
+        java.util.LinkedList<Page> pila = new java.util.LinkedList<>();
+        compararContraReferencia(new MRU(), new Referencia() {
+            public void load(Page p) { pila.addFirst(p); }
+            public void use(Page p) { pila.remove(p); pila.addFirst(p); }
+            public void evict(Page p) { pila.remove(p); }
+            public Page victim() { return pila.getFirst(); }
+        }, 12);
+    }
+    
+    /**
+     * Compara LRU contra una lista de referencia que mueve la página usada
+     * al final (el frente es la menos reciente).
+     */
+    private static void testLRUContraReferencia() {
+        System.out.println("--- TEST LRU CONTRA REFERENCIA ---");
+        java.util.LinkedList<Page> lista = new java.util.LinkedList<>();
+        compararContraReferencia(new LRU(), new Referencia() {
+            public void load(Page p) { lista.addLast(p); }
+            public void use(Page p) { lista.remove(p); lista.addLast(p); }
+            public void evict(Page p) { lista.remove(p); }
+            public Page victim() { return lista.getFirst(); }
+        }, 17);
+    }
+    
+    /**
+     * Compara LFU contra una referencia que guarda la frecuencia de cada
+     * página y el momento en que llegó a ella, y busca el mínimo recorriendo
+     * todo (empates: la que lleva más tiempo con esa frecuencia).
+     */
+    private static void testLFUContraReferencia() {
+        System.out.println("--- TEST LFU CONTRA REFERENCIA ---");
+        java.util.Map<Page, long[]> estado = new java.util.HashMap<>(); // {frecuencia, llegada}
+        final long[] reloj = {0};
+        compararContraReferencia(new LFU(), new Referencia() {
+            public void load(Page p) { estado.put(p, new long[] {1, reloj[0]++}); }
+            public void use(Page p) { long[] e = estado.get(p); e[0]++; e[1] = reloj[0]++; }
+            public void evict(Page p) { estado.remove(p); }
+            public Page victim() {
+                Page mejor = null;
+                for (java.util.Map.Entry<Page, long[]> e : estado.entrySet()) {
+                    long[] v = e.getValue();
+                    if (mejor == null || v[0] < estado.get(mejor)[0]
+                            || (v[0] == estado.get(mejor)[0] && v[1] < estado.get(mejor)[1])) {
+                        mejor = e.getKey();
+                    }
+                }
+                return mejor;
+            }
+        }, 18);
+    }
+    
+    /**
+     * Compara SC contra un reloj de referencia que recorre marco por marco.
+     */
+    private static void testSCContraReferencia() {
+        System.out.println("--- TEST SC (CLOCK) CONTRA REFERENCIA ---");
+        final Page[] reloj = new Page[1000];
+        final boolean[] bits = new boolean[1000];
+        final int[] manecilla = {0};
+        compararContraReferencia(new SC(), new Referencia() {
+            public void load(Page p) { reloj[p.getIndexOfPage()] = p; bits[p.getIndexOfPage()] = false; }
+            public void use(Page p) { bits[p.getIndexOfPage()] = true; }
+            public void evict(Page p) { reloj[p.getIndexOfPage()] = null; bits[p.getIndexOfPage()] = false; }
+            public Page victim() {
+                while (true) {
+                    int marco = manecilla[0];
+                    manecilla[0] = (marco + 1) % reloj.length;
+                    if (reloj[marco] == null) continue;
+                    if (bits[marco]) {
+                        bits[marco] = false;
+                    } else {
+                        return reloj[marco];
+                    }
+                }
+            }
+        }, 13);
+    }
+    
+    /**
+     * Modelo simple (y lento) de un algoritmo, para comparar.
+     */
+    private interface Referencia {
+        void load(Page p);
+        void use(Page p);
+        void evict(Page p);
+        Page victim();
+    }
+    
+    /**
+     * Corre cargas, usos, víctimas y evicts arbitrarios al azar sobre 1000
+     * marcos y revisa que el algoritmo elija siempre la misma víctima que
+     * la referencia.
+     */
+    private static void compararContraReferencia(PageReplacementAlgorithm alg, Referencia ref, long semilla) {
+        final int marcos = 1000;
+        java.util.Random rand = new java.util.Random(semilla);
+        List<Page> residentes = new ArrayList<>();
+        Page[] ram = new Page[marcos];
+        List<Page> ramLista = Arrays.asList(ram);
+        java.util.ArrayDeque<Integer> libres = new java.util.ArrayDeque<>();
+        for (int i = 0; i < marcos; i++) {
+            libres.add(i);
+        }
+        int siguienteId = 0;
+        int victimas = 0;
+        
+        for (int paso = 0; paso < 50000; paso++) {
+            int accion = rand.nextInt(10);
+            if (accion < 1 && !residentes.isEmpty()) {
+                // Evict arbitrario (delete)
+                Page p = residentes.remove(rand.nextInt(residentes.size()));
+                alg.onEvict(p);
+                ref.evict(p);
+                libres.add(p.getIndexOfPage());
+                ram[p.getIndexOfPage()] = null;
+                p.setIndexOfPage(-1);
+                continue;
+            }
+            if (accion < 5 && !residentes.isEmpty()) {
+                Page p = residentes.get(rand.nextInt(residentes.size()));
+                alg.onUse(p);
+                ref.use(p);
+                continue;
+            }
+            if (libres.isEmpty()) {
+                Page victima = alg.selectPageToReplace(ramLista);
+                Page esperada = ref.victim();
+                if (victima != esperada) {
+                    throw new AssertionError(alg.getAlgorithmName() + " eligió la página " + victima.getId()
+                            + ", la referencia dice " + esperada.getId());
+                }
+                victimas++;
+                residentes.remove(victima);
+                alg.onEvict(victima);
+                ref.evict(victima);
+                libres.add(victima.getIndexOfPage());
+                ram[victima.getIndexOfPage()] = null;
+                victima.setIndexOfPage(-1);
+            }
+            int marco = libres.poll();
+            Page nueva = new Page(siguienteId++, marco, false, 0);
+            ram[marco] = nueva;
+            residentes.add(nueva);
+            alg.onLoad(nueva);
+            ref.load(nueva);
+        }
+        System.out.println("   " + victimas + " víctimas iguales a la referencia ✓ (esperado: todas)");
+    }
+    
     /**
      * Prueba el algoritmo MRU.
      */
@@ -256,6 +464,702 @@ public class TestPageReplacementAlgorithms {
         Page primera = rnd.selectPageToReplace(ramPages);
         System.out.println("   Primera selección después de reset: Page " + primera.getId());
     }
+
+    /**
+     * RND dentro de una MMU: sortea entre los marcos ocupados, así que la
+     * víctima siempre está en RAM, y con la misma semilla la corrida se repite.
+     */
+    private static void testRNDMarcosOcupados() {
+        System.out.println("--- TEST RND (marcos ocupados) ---");
+
+        long[] tiempos = new long[2];
+        for (int corrida = 0; corrida < 2; corrida++) {
+            tiempos[corrida] = simularEnMMU(new RND(99L), 7L, mmu -> { }).getThrashingTime();
+        }
+
+        if (tiempos[0] != tiempos[1]) {
+            throw new AssertionError("RND con la misma semilla dio " + tiempos[0] + " y " + tiempos[1]);
+        }
+        System.out.println("   Thrashing repetido: " + tiempos[0] + "s ✓ (esperado: igual en ambas corridas)");
+    }
+    
+    /**
+     * Corre una carga generada (6 procesos, 3000 instrucciones, con deletes y
+     * kills) en una MMU de 16 marcos y revisa los invariantes de la RAM
+     * después de cada instrucción.
+     * La MMU ya falla si el algoritmo elige una víctima que no está en RAM.
+     * @param revisar lo que se revisa del algoritmo después de cada instrucción.
+     * @return la MMU al terminar.
+     */
+    private static MMU simularEnMMU(PageReplacementAlgorithm alg, long semilla,
+            java.util.function.Consumer<MMU> revisar) {
+        InstructionFileHandler handler = new InstructionFileHandler();
+        InstructionFileHandler.SimulationData data = handler.generateProcesses(6, 3000, semilla);
+        MMU mmu = new MMU(alg, data.processes, new ComputerConfig(64 * 1024, 4096));
+        for (Instruction inst : data.instructions) {
+            mmu.executeInstruction(inst);
+            mmu.getComputer().checkInvariants();
+            revisar.accept(mmu);
+        }
+        return mmu;
+    }
+    
+    /**
+     * Compara ARC contra la versión del artículo original (conjuntos de ids)
+     * en una traza con un conjunto caliente y barridos largos que no se
+     * repiten. La traza se le da al algoritmo como lo hace la MMU: onMiss,
+     * víctima si no hay marcos libres, onEvict, onLoad.
+     */
+    private static void testARCContraReferencia() {
+        System.out.println("--- TEST ARC CONTRA REFERENCIA ---");
+        final int marcos = 64;
+        final int universo = 400;
+        ARC arc = new ARC();
+        arc.attach(new Computer(new ComputerConfig(marcos * 4096L, 4096)));
+        ArcReferencia ref = new ArcReferencia(marcos);
+        
+        java.util.Random rand = new java.util.Random(19);
+        Page[] paginas = new Page[universo];
+        for (int id = 0; id < universo; id++) {
+            paginas[id] = new Page(id, -1, true, 0);
+        }
+        Page[] ram = new Page[marcos];
+        List<Page> ramLista = Arrays.asList(ram);
+        java.util.ArrayDeque<Integer> libres = new java.util.ArrayDeque<>();
+        for (int i = 0; i < marcos; i++) {
+            libres.add(i);
+        }
+        
+        int barrido = 0;
+        int victimas = 0;
+        int aciertos = 0;
+        for (int paso = 0; paso < 100000; paso++) {
+            int id;
+            if (rand.nextInt(10) < 6) {
+                id = rand.nextInt(48); // conjunto caliente
+            } else if (rand.nextInt(4) == 0) {
+                id = 48 + rand.nextInt(universo - 48); // al azar
+            } else {
+                id = 48 + (barrido++ % (universo - 48)); // barrido
+            }
+            Page pagina = paginas[id];
+            
+            if (pagina.getIndexOfPage() >= 0) {
+                arc.onUse(pagina);
+                ref.acceso(id);
+                aciertos++;
+                continue;
+            }
+            
+            arc.onMiss(pagina);
+            int esperada = ref.acceso(id);
+            if (libres.isEmpty()) {
+                Page victima = arc.selectPageToReplace(ramLista);
+                if (victima.getId() != esperada) {
+                    throw new AssertionError("ARC eligió la página " + victima.getId()
+                            + ", la referencia dice " + esperada + " (paso " + paso + ")");
+                }
+                victimas++;
+                arc.onEvict(victima);
+                libres.add(victima.getIndexOfPage());
+                ram[victima.getIndexOfPage()] = null;
+                victima.setIndexOfPage(-1);
+            } else if (esperada != -1) {
+                throw new AssertionError("La referencia evictó con marcos libres (paso " + paso + ")");
+            }
+            int marco = libres.poll();
+            pagina.setIndexOfPage(marco);
+            ram[marco] = pagina;
+            arc.onLoad(pagina);
+        }
+        System.out.println("   " + victimas + " víctimas iguales a la referencia ✓ (esperado: todas)");
+        System.out.println("   Aciertos: " + aciertos + ", " + arc);
+        
+        // En una MMU real, con deletes y kills que reciclan los ids de página,
+        // siguen valiendo los invariantes del artículo: T1 y T2 son la RAM,
+        // |T1| + |B1| <= c y el directorio completo no pasa de 2c
+        ARC enMMU = new ARC();
+        int[] revisadas = {0};
+        simularEnMMU(enMMU, 23L, mmu -> {
+            int c = mmu.getComputer().getAmountOfPagesInRAM();
+            int residentes = enMMU.getT1Size() + enMMU.getT2Size();
+            if (residentes != mmu.getComputer().getUsedFrameCount()
+                    || enMMU.getT1Size() + enMMU.getB1Size() > c
+                    || residentes + enMMU.getB1Size() + enMMU.getB2Size() > 2 * c
+                    || enMMU.getTarget() < 0 || enMMU.getTarget() > c) {
+                throw new AssertionError("Invariantes de ARC rotos en la MMU: " + enMMU.getDetailedState());
+            }
+            revisadas[0]++;
+        });
+        System.out.println("   Corrida en MMU: invariantes en " + revisadas[0]
+            + " instrucciones ✓ (esperado: T1+T2 = RAM, T1+B1 <= c, todo <= 2c)");
+    }
+    
+    /**
+     * Da una traza de ids a un algoritmo como lo hace la MMU (onUse si la
+     * página está en RAM; si no onMiss, víctima si no hay marcos libres,
+     * onEvict y onLoad) y revisa que cada víctima esté en RAM. El reloj
+     * simulado avanza 1s por hit y 5s por fallo, y cada id cuenta como una
+     * instrucción ejecutada, como en la MMU.
+     * @return la cantidad de fallos.
+     */
+    private static int simularTraza(PageReplacementAlgorithm alg, int[] traza, int marcos) {
+        alg.attach(new Computer(new ComputerConfig(marcos * 4096L, 4096)));
+        java.util.Map<Integer, Page> paginas = new java.util.HashMap<>();
+        Page[] ram = new Page[marcos];
+        List<Page> ramLista = Arrays.asList(ram);
+        java.util.ArrayDeque<Integer> libres = new java.util.ArrayDeque<>();
+        for (int i = 0; i < marcos; i++) {
+            libres.add(i);
+        }
+        Use instruccion = new Use(0, 0);
+        int fallos = 0;
+        long tiempo = 0;
+        for (int id : traza) {
+            Page pagina = paginas.computeIfAbsent(id, k -> new Page(k, -1, true, 0));
+            instruccion.setPtr(id);
+            if (pagina.getIndexOfPage() >= 0) {
+                alg.onUse(pagina);
+                alg.onTimeAdvanced(++tiempo);
+                alg.onInstructionExecuted(instruccion);
+                continue;
+            }
+            fallos++;
+            alg.onMiss(pagina);
+            if (libres.isEmpty()) {
+                Page victima = alg.selectPageToReplace(ramLista);
+                if (victima == null || victima.getIndexOfPage() < 0 || ram[victima.getIndexOfPage()] != victima) {
+                    throw new AssertionError(alg.getAlgorithmName() + " eligió una víctima que no está en RAM");
+                }
+                alg.onEvict(victima);
+                libres.add(victima.getIndexOfPage());
+                ram[victima.getIndexOfPage()] = null;
+                victima.setIndexOfPage(-1);
+            }
+            int marco = libres.poll();
+            pagina.setIndexOfPage(marco);
+            ram[marco] = pagina;
+            alg.onLoad(pagina);
+            alg.onTimeAdvanced(tiempo += 5);
+            alg.onInstructionExecuted(instruccion);
+        }
+        return fallos;
+    }
+    
+    /**
+     * Traza con un conjunto caliente que cabe en RAM, mezclada con barridos
+     * de páginas que se tocan una sola vez (como un 'new' grande).
+     */
+    private static int[] trazaConBarridos(int caliente, int largo, long semilla) {
+        java.util.Random rand = new java.util.Random(semilla);
+        int[] traza = new int[largo];
+        int siguienteFria = caliente;
+        for (int i = 0; i < largo; i++) {
+            traza[i] = rand.nextInt(2) == 0 ? rand.nextInt(caliente) : siguienteFria++;
+        }
+        return traza;
+    }
+    
+    /**
+     * CLOCK-Pro con barridos: las páginas del barrido se quedan frías y salen
+     * sin sacar al conjunto caliente, así que falla menos que SC.
+     */
+    private static void testClockProBarridos() {
+        System.out.println("--- TEST CLOCK-PRO CON BARRIDOS ---");
+        int marcos = 64;
+        int[] traza = trazaConBarridos(48, 100000, 20);
+        int fallosSC = simularTraza(new SC(), traza, marcos);
+        int fallosClockPro = simularTraza(new ClockPro(), traza, marcos);
+        System.out.println("   Fallos SC: " + fallosSC + ", CLOCK-Pro: " + fallosClockPro);
+        if (fallosClockPro >= fallosSC) {
+            throw new AssertionError("CLOCK-Pro debe fallar menos que SC con barridos");
+        }
+        System.out.println("   CLOCK-Pro falla menos que SC ✓ (esperado: menos)");
+        
+        // En la MMU: calientes + frías son la RAM, las no residentes en
+        // prueba no pasan de m y la cuota de frías queda entre 1 y m - 1
+        ClockPro enMMU = new ClockPro();
+        int[] revisadas = {0};
+        simularEnMMU(enMMU, 29L, mmu -> {
+            int m = mmu.getComputer().getAmountOfPagesInRAM();
+            if (enMMU.getHotCount() + enMMU.getColdCount() != mmu.getComputer().getUsedFrameCount()
+                    || enMMU.getNonResidentTestCount() > m
+                    || enMMU.getColdTarget() < 1 || enMMU.getColdTarget() > m - 1) {
+                throw new AssertionError("Invariantes de CLOCK-Pro rotos en la MMU: " + enMMU.getDetailedState());
+            }
+            revisadas[0]++;
+        });
+        System.out.println("   Corrida en MMU: invariantes en " + revisadas[0]
+            + " instrucciones ✓ (esperado: calientes+frías = RAM, prueba <= m, 1 <= m_c < m)");
+    }
+    
+    /**
+     * LIRS con un ciclo de usos más grande que la RAM: LRU falla en cada
+     * uso, LIRS deja fijas las LIR y solo falla en el resto del ciclo.
+     * Además, con barridos de páginas únicas, el historial de no residentes
+     * no pasa de la cantidad de marcos.
+     */
+    private static void testLIRSCiclos() {
+        System.out.println("--- TEST LIRS CON CICLOS ---");
+        int marcos = 64;
+        int[] ciclo = new int[80 * 500];
+        for (int i = 0; i < ciclo.length; i++) {
+            ciclo[i] = i % 80;
+        }
+        int fallosLRU = simularTraza(new LRU(), ciclo, marcos);
+        int fallosLIRS = simularTraza(new LIRS(), ciclo, marcos);
+        System.out.println("   Fallos LRU: " + fallosLRU + ", LIRS: " + fallosLIRS + " de " + ciclo.length);
+        if (fallosLRU != ciclo.length) {
+            throw new AssertionError("LRU debe fallar en cada uso del ciclo");
+        }
+        if (fallosLIRS > ciclo.length / 2) {
+            throw new AssertionError("LIRS debe fallar en menos de la mitad de los usos del ciclo");
+        }
+        System.out.println("   LIRS falla menos de la mitad ✓ (esperado: menos de " + ciclo.length / 2 + ")");
+        
+        LIRS lirs = new LIRS();
+        simularTraza(lirs, trazaConBarridos(48, 100000, 21), marcos);
+        if (lirs.getNonResidentCount() > marcos) {
+            throw new AssertionError("LIRS recuerda " + lirs.getNonResidentCount() + " no residentes");
+        }
+        System.out.println("   No residentes: " + lirs.getNonResidentCount() + " ✓ (esperado: <= " + marcos + ")");
+        
+        // En la MMU, con deletes y kills: LIR + HIR residentes son la RAM,
+        // las LIR dejan al menos un marco para las HIR y el historial sigue
+        // acotado a los marcos
+        LIRS enMMU = new LIRS();
+        int[] revisadas = {0};
+        simularEnMMU(enMMU, 31L, mmu -> {
+            int m = mmu.getComputer().getAmountOfPagesInRAM();
+            if (enMMU.getLirCount() + enMMU.getHirResidentCount() != mmu.getComputer().getUsedFrameCount()
+                    || enMMU.getLirCount() > m - 1
+                    || enMMU.getNonResidentCount() > m) {
+                throw new AssertionError("Invariantes de LIRS rotos en la MMU: " + enMMU.getDetailedState());
+            }
+            revisadas[0]++;
+        });
+        System.out.println("   Corrida en MMU: invariantes en " + revisadas[0]
+            + " instrucciones ✓ (esperado: LIR+HIR = RAM, LIR < m, no residentes <= m)");
+    }
+    
+    /**
+     * Working Set y WSClock con tiempo simulado.
+     * - Con ventana infinita nada sale del conjunto de trabajo y WS elige
+     *   siempre la de uso más antiguo: falla igual que LRU
+     * - Con ventana 0 toda página sin referencia está fuera: WSClock es SC
+     * - Tras cambiar de fase, las páginas de la fase vieja salen de la
+     *   ventana y el conjunto de trabajo es solo el de la fase nueva
+     */
+    private static void testWorkingSet() {
+        System.out.println("--- TEST WORKING SET Y WSCLOCK ---");
+        int marcos = 64;
+        int[] traza = trazaConBarridos(48, 100000, 22);
+        
+        int fallosLRU = simularTraza(new LRU(), traza, marcos);
+        int fallosWS = simularTraza(new WorkingSet(Long.MAX_VALUE), traza, marcos);
+        if (fallosWS != fallosLRU) {
+            throw new AssertionError("WS con ventana infinita falló " + fallosWS + " veces, LRU " + fallosLRU);
+        }
+        System.out.println("   WS(τ=∞): " + fallosWS + " fallos ✓ (esperado: " + fallosLRU + ", igual que LRU)");
+        
+        int fallosSC = simularTraza(new SC(), traza, marcos);
+        int fallosWSClock = simularTraza(new WSClock(0), traza, marcos);
+        if (fallosWSClock != fallosSC) {
+            throw new AssertionError("WSClock con ventana 0 falló " + fallosWSClock + " veces, SC " + fallosSC);
+        }
+        System.out.println("   WSClock(τ=0): " + fallosWSClock + " fallos ✓ (esperado: " + fallosSC + ", igual que SC)");
+        
+        // Fase A: 20 páginas; fase B: otras 10, por más tiempo que la ventana
+        int[] fases = new int[3000];
+        for (int i = 0; i < fases.length; i++) {
+            fases[i] = i < 1000 ? i % 20 : 100 + i % 10;
+        }
+        WorkingSet ws = new WorkingSet(100);
+        simularTraza(ws, fases, marcos);
+        if (ws.getWorkingSetSize() != 10) {
+            throw new AssertionError("El conjunto de trabajo debe ser la fase B, es " + ws.getWorkingSetSize());
+        }
+        System.out.println("   Conjunto de trabajo tras cambiar de fase: " + ws.getWorkingSetSize()
+            + " ✓ (esperado: 10)");
+        
+        // En la MMU, con el reloj que ella avanza: cada víctima está fuera de
+        // la ventana o, si todas las residentes están dentro, es la de uso
+        // más antiguo
+        long[] ahora = new long[2];
+        int[] victimas = new int[2];
+        WorkingSet wsEnMMU = new WorkingSet() {
+            @Override
+            public void onTimeAdvanced(long now) {
+                super.onTimeAdvanced(now);
+                ahora[0] = now;
+            }
+            
+            @Override
+            public Page selectPageToReplace(List<Page> pagesInRAM) {
+                Page victima = super.selectPageToReplace(pagesInRAM);
+                revisarVictimaWS("WS", victima, pagesInRAM, ahora[0], getWindow(), this::getLastUse);
+                victimas[0]++;
+                return victima;
+            }
+        };
+        WSClock wsClockEnMMU = new WSClock() {
+            @Override
+            public void onTimeAdvanced(long now) {
+                super.onTimeAdvanced(now);
+                ahora[1] = now;
+            }
+            
+            @Override
+            public Page selectPageToReplace(List<Page> pagesInRAM) {
+                Page victima = super.selectPageToReplace(pagesInRAM);
+                revisarVictimaWS("WSClock", victima, pagesInRAM, ahora[1], getWindow(), this::getLastUse);
+                victimas[1]++;
+                return victima;
+            }
+        };
+        simularEnMMU(wsEnMMU, 37L, mmu -> { });
+        simularEnMMU(wsClockEnMMU, 37L, mmu -> { });
+        System.out.println("   Corrida en MMU: " + victimas[0] + " víctimas de WS y " + victimas[1]
+            + " de WSClock ✓ (esperado: fuera de la ventana o la de uso más antiguo)");
+    }
+    
+    /**
+     * Revisa una víctima de WS o WSClock: está fuera de la ventana o, si todas
+     * las residentes están dentro, es la de uso más antiguo.
+     */
+    private static void revisarVictimaWS(String nombre, Page victima, List<Page> ram, long ahora, long ventana,
+            java.util.function.IntToLongFunction ultimoUso) {
+        long usoVictima = ultimoUso.applyAsLong(victima.getIndexOfPage());
+        if (ahora - usoVictima > ventana) {
+            return;
+        }
+        for (Page pagina : ram) {
+            if (pagina == null) {
+                continue;
+            }
+            long uso = ultimoUso.applyAsLong(pagina.getIndexOfPage());
+            if (ahora - uso > ventana || uso < usoVictima) {
+                throw new AssertionError(nombre + " eligió la página " + victima.getId() + " (último uso "
+                    + usoVictima + ") y la " + pagina.getId() + " tiene último uso " + uso + " (ahora " + ahora + ")");
+            }
+        }
+    }
+    
+    /**
+     * Aging: registros de desplazamiento que se corren en cada tick.
+     * - Escenario a mano con registros de 64 bits (el bit alto prendido no
+     *   debe contar como negativo al buscar el mínimo)
+     * - El tick llega cada N instrucciones
+     * - Con barridos se parece a LRU, que es lo que aproxima
+     */
+    private static void testAging() {
+        System.out.println("--- TEST AGING ---");
+        Aging aging = new Aging(64, 1);
+        Page[] p = new Page[5];
+        for (int i = 0; i < 4; i++) {
+            p[i] = new Page(i, i, true, 0);
+            aging.onLoad(p[i]);
+        }
+        List<Page> ram = new ArrayList<>(Arrays.asList(p[0], p[1], p[2], p[3]));
+        
+        aging.onUse(p[1]);
+        aging.onUse(p[2]);
+        aging.onInstructionExecuted(null);
+        // p1, p2 = 1100...; p0, p3 = 0100...
+        if (aging.getAge(1) != 0xC000000000000000L || aging.getAge(0) != 0x4000000000000000L) {
+            throw new AssertionError("Registros después del tick: " + aging.getDetailedState());
+        }
+        Page victima = aging.selectPageToReplace(ram);
+        System.out.println("   Víctima: Page " + victima.getId() + " ✓ (esperado: 0, edad mínima y marco más bajo)");
+        if (victima != p[0]) throw new AssertionError("Se esperaba la página 0");
+        
+        aging.onUse(p[0]);
+        aging.onInstructionExecuted(null);
+        // p0 = 1010..., p1, p2 = 0110..., p3 = 0010...
+        victima = aging.selectPageToReplace(ram);
+        System.out.println("   Víctima: Page " + victima.getId() + " ✓ (esperado: 3)");
+        if (victima != p[3]) throw new AssertionError("Se esperaba la página 3");
+        
+        aging.onEvict(p[3]);
+        ram.remove(p[3]);
+        p[3].setIndexOfPage(-1);
+        p[4] = new Page(4, 3, true, 0);
+        aging.onLoad(p[4]);
+        ram.add(p[4]);
+        // p4 entra con 1000...: sigue p1 (0110...)
+        victima = aging.selectPageToReplace(ram);
+        System.out.println("   Víctima: Page " + victima.getId() + " ✓ (esperado: 1)");
+        if (victima != p[1]) throw new AssertionError("Se esperaba la página 1");
+        
+        // Tick cada 3 instrucciones
+        Aging cada3 = new Aging(8, 3);
+        Page a = new Page(0, 0, true, 0);
+        Page b = new Page(1, 1, true, 0);
+        cada3.onLoad(a);
+        cada3.onLoad(b);
+        cada3.onUse(a);
+        cada3.onInstructionExecuted(null);
+        cada3.onInstructionExecuted(null);
+        if (cada3.getAge(0) != 0x80) {
+            throw new AssertionError("No debía haber tick todavía: " + cada3);
+        }
+        cada3.onInstructionExecuted(null);
+        if (cada3.getAge(0) != 0xC0 || cada3.getAge(1) != 0x40) {
+            throw new AssertionError("Registros después del tick: " + cada3.getDetailedState());
+        }
+        System.out.println("   Tick a la tercera instrucción ✓ (esperado: 11000000 y 01000000)");
+        
+        int marcos = 64;
+        int[] traza = trazaConBarridos(48, 100000, 24);
+        int fallosFIFO = simularTraza(new FIFO(), traza, marcos);
+        int fallosLRU = simularTraza(new LRU(), traza, marcos);
+        int fallosAging = simularTraza(new Aging(), traza, marcos);
+        System.out.println("   Fallos FIFO: " + fallosFIFO + ", LRU: " + fallosLRU + ", Aging: " + fallosAging);
+        if (fallosAging >= fallosFIFO) {
+            throw new AssertionError("Aging debe fallar menos que FIFO con barridos");
+        }
+        System.out.println("   Aging falla menos que FIFO ✓ (esperado: menos)");
+        
+        // En la MMU, con el tick que dan sus instrucciones: cada víctima es
+        // la de registro mínimo, y entre empates la de marco más bajo
+        int[] victimas = {0};
+        Aging enMMU = new Aging() {
+            @Override
+            public Page selectPageToReplace(List<Page> pagesInRAM) {
+                Page victima = super.selectPageToReplace(pagesInRAM);
+                for (Page pagina : pagesInRAM) {
+                    if (pagina == null || pagina == victima) {
+                        continue;
+                    }
+                    int comparacion = Long.compareUnsigned(getAge(pagina.getIndexOfPage()),
+                        getAge(victima.getIndexOfPage()));
+                    if (comparacion < 0 || (comparacion == 0 && pagina.getIndexOfPage() < victima.getIndexOfPage())) {
+                        throw new AssertionError("Aging eligió la página " + victima.getId() + " y no la "
+                            + pagina.getId() + ": " + getDetailedState());
+                    }
+                }
+                victimas[0]++;
+                return victima;
+            }
+        };
+        simularEnMMU(enMMU, 41L, mmu -> { });
+        System.out.println("   Corrida en MMU: " + victimas[0]
+            + " víctimas ✓ (esperado: registro mínimo, marco más bajo)");
+    }
+    
+    /**
+     * MGLRU: usar una página solo anota su generación, y recién al desalojar
+     * se pasa a la lista que le toca.
+     */
+    private static void testMGLRU() {
+        System.out.println("--- TEST MGLRU ---");
+        MGLRU mglru = new MGLRU();
+        Page[] p = new Page[4];
+        for (int i = 0; i < 3; i++) {
+            p[i] = new Page(i, i, true, 0);
+            mglru.onLoad(p[i]);
+        }
+        List<Page> ram = new ArrayList<>(Arrays.asList(p[0], p[1], p[2]));
+        
+        mglru.onUse(p[0]);
+        Page victima = mglru.selectPageToReplace(ram);
+        System.out.println("   Víctima: Page " + victima.getId() + " ✓ (esperado: 1, la 0 se usó)");
+        if (victima != p[1]) throw new AssertionError("Se esperaba la página 1: " + mglru.getDetailedState());
+        
+        mglru.onEvict(p[1]);
+        ram.remove(p[1]);
+        p[1].setIndexOfPage(-1);
+        p[3] = new Page(3, 1, true, 0);
+        mglru.onLoad(p[3]);
+        ram.add(p[3]);
+        // La 3 entra en una generación más nueva que la 2
+        victima = mglru.selectPageToReplace(ram);
+        System.out.println("   Víctima: Page " + victima.getId() + " ✓ (esperado: 2)");
+        if (victima != p[2]) throw new AssertionError("Se esperaba la página 2: " + mglru.getDetailedState());
+        
+        int marcos = 64;
+        int[] traza = trazaConBarridos(48, 100000, 25);
+        int fallosFIFO = simularTraza(new FIFO(), traza, marcos);
+        int fallosLRU = simularTraza(new LRU(), traza, marcos);
+        MGLRU conBarridos = new MGLRU();
+        int fallosMGLRU = simularTraza(conBarridos, traza, marcos);
+        System.out.println("   Fallos FIFO: " + fallosFIFO + ", LRU: " + fallosLRU + ", MGLRU: " + fallosMGLRU);
+        if (fallosMGLRU >= fallosLRU) {
+            throw new AssertionError("MGLRU debe fallar menos que LRU con barridos");
+        }
+        System.out.println("   MGLRU falla menos que LRU ✓ (esperado: menos)");
+        if (conBarridos.getGenerationCount() > MGLRU.MAX_GENERATIONS) {
+            throw new AssertionError("Hay " + conBarridos.getGenerationCount() + " generaciones");
+        }
+        System.out.println("   Generaciones: " + conBarridos.getGenerationCount()
+            + " ✓ (esperado: <= " + MGLRU.MAX_GENERATIONS + ")");
+        
+        // En la MMU: cada víctima sale de la generación más vieja (ninguna
+        // página en RAM tiene una generación anterior a la suya) y nunca hay
+        // más de MAX_GENERATIONS
+        int[] victimas = {0};
+        MGLRU enMMU = new MGLRU() {
+            @Override
+            public Page selectPageToReplace(List<Page> pagesInRAM) {
+                Page victima = super.selectPageToReplace(pagesInRAM);
+                long generacion = getGeneration(victima.getIndexOfPage());
+                for (Page pagina : pagesInRAM) {
+                    if (pagina != null && getGeneration(pagina.getIndexOfPage()) < generacion) {
+                        throw new AssertionError("MGLRU eligió la página " + victima.getId() + " y la "
+                            + pagina.getId() + " es de una generación más vieja: " + getDetailedState());
+                    }
+                }
+                if (getGenerationCount() > MAX_GENERATIONS) {
+                    throw new AssertionError("Hay " + getGenerationCount() + " generaciones");
+                }
+                victimas[0]++;
+                return victima;
+            }
+        };
+        simularEnMMU(enMMU, 43L, mmu -> { });
+        System.out.println("   Corrida en MMU: " + victimas[0]
+            + " víctimas ✓ (esperado: de la generación más vieja)");
+    }
+    
+    /**
+     * S3-FIFO: una página reusada en S pasa a M, una que sale de S sin
+     * reusarse queda en G y si vuelve a fallar entra directo en M. Con
+     * barridos se compara contra FIFO y SC.
+     */
+    private static void testS3FIFO() {
+        System.out.println("--- TEST S3-FIFO ---");
+        S3FIFO s3 = new S3FIFO();
+        s3.attach(new Computer(new ComputerConfig(10 * 4096L, 4096)));
+        Page[] p = new Page[10];
+        for (int i = 0; i < 10; i++) {
+            p[i] = new Page(i, i, true, 0);
+            s3.onMiss(p[i]);
+            s3.onLoad(p[i]);
+        }
+        List<Page> ram = new ArrayList<>(Arrays.asList(p));
+        
+        s3.onUse(p[0]);
+        s3.onUse(p[0]);
+        Page victima = s3.selectPageToReplace(ram);
+        System.out.println("   Víctima: Page " + victima.getId() + " ✓ (esperado: 1, la 0 pasa a M)");
+        if (victima != p[1]) throw new AssertionError("Se esperaba la página 1: " + s3.getDetailedState());
+        
+        s3.onEvict(p[1]);
+        int marco = p[1].getIndexOfPage();
+        p[1].setIndexOfPage(-1);
+        if (s3.getGhostSize() != 1) throw new AssertionError("La página 1 debía quedar en G: " + s3);
+        
+        // Vuelve a fallar estando en G: entra en M
+        p[1].setIndexOfPage(marco);
+        s3.onMiss(p[1]);
+        s3.onLoad(p[1]);
+        if (s3.getMainSize() != 2 || s3.getGhostSize() != 0) {
+            throw new AssertionError("Se esperaban las páginas 0 y 1 en M, y G vacía: " + s3.getDetailedState());
+        }
+        System.out.println("   " + s3 + " ✓ (esperado: S=8, M=2, G=0)");
+        
+        int marcos = 64;
+        int[] traza = trazaConBarridos(48, 100000, 26);
+        int fallosFIFO = simularTraza(new FIFO(), traza, marcos);
+        int fallosSC = simularTraza(new SC(), traza, marcos);
+        int fallosS3 = simularTraza(new S3FIFO(), traza, marcos);
+        System.out.println("   Fallos FIFO: " + fallosFIFO + ", SC: " + fallosSC + ", S3-FIFO: " + fallosS3);
+        if (fallosS3 >= fallosSC || fallosSC >= fallosFIFO) {
+            throw new AssertionError("Con barridos S3-FIFO debe fallar menos que SC, y SC menos que FIFO");
+        }
+        System.out.println("   S3-FIFO < SC < FIFO ✓ (esperado: en ese orden)");
+        
+        // En la MMU, con deletes y kills: S + M son la RAM y G no pasa de
+        // los marcos que le tocan a M
+        S3FIFO enMMU = new S3FIFO();
+        int[] revisadas = {0};
+        simularEnMMU(enMMU, 47L, mmu -> {
+            int marcosMMU = mmu.getComputer().getAmountOfPagesInRAM();
+            if (enMMU.getSmallSize() + enMMU.getMainSize() != mmu.getComputer().getUsedFrameCount()
+                    || enMMU.getGhostSize() > marcosMMU - Math.max(1, marcosMMU / 10)) {
+                throw new AssertionError("Invariantes de S3-FIFO rotos en la MMU: " + enMMU.getDetailedState());
+            }
+            revisadas[0]++;
+        });
+        System.out.println("   Corrida en MMU: invariantes en " + revisadas[0]
+            + " instrucciones ✓ (esperado: S+M = RAM, G <= marcos de M)");
+    }
+    
+    /**
+     * ARC tal como viene en el artículo original, sobre ids de página.
+     */
+    private static class ArcReferencia {
+        private final int c;
+        private int p;
+        private final java.util.LinkedHashSet<Integer> t1 = new java.util.LinkedHashSet<>();
+        private final java.util.LinkedHashSet<Integer> t2 = new java.util.LinkedHashSet<>();
+        private final java.util.LinkedHashSet<Integer> b1 = new java.util.LinkedHashSet<>();
+        private final java.util.LinkedHashSet<Integer> b2 = new java.util.LinkedHashSet<>();
+        
+        ArcReferencia(int c) {
+            this.c = c;
+        }
+        
+        /**
+         * @return el id evictado, -1 si no hubo que evictar.
+         */
+        int acceso(int x) {
+            if (t1.remove(x) || t2.remove(x)) { // Caso I
+                t2.add(x);
+                return -1;
+            }
+            if (b1.contains(x)) { // Caso II
+                p = Math.min(c, p + Math.max(b2.size() / b1.size(), 1));
+                int v = replace(x);
+                b1.remove(x);
+                t2.add(x);
+                return v;
+            }
+            if (b2.contains(x)) { // Caso III
+                p = Math.max(0, p - Math.max(b1.size() / b2.size(), 1));
+                int v = replace(x);
+                b2.remove(x);
+                t2.add(x);
+                return v;
+            }
+            int v = -1; // Caso IV
+            int l1 = t1.size() + b1.size();
+            int total = l1 + t2.size() + b2.size();
+            if (l1 == c) {
+                if (t1.size() < c) {
+                    quitarPrimero(b1);
+                    v = replace(x);
+                } else {
+                    v = quitarPrimero(t1);
+                }
+            } else if (total >= c) {
+                if (total == 2 * c) {
+                    quitarPrimero(b2);
+                }
+                v = replace(x);
+            }
+            t1.add(x);
+            return v;
+        }
+        
+        private int replace(int x) {
+            if (!t1.isEmpty() && ((b2.contains(x) && t1.size() == p) || t1.size() > p)) {
+                int v = quitarPrimero(t1);
+                b1.add(v);
+                return v;
+            }
+            int v = quitarPrimero(t2);
+            b2.add(v);
+            return v;
+        }
+        
+        private static int quitarPrimero(java.util.LinkedHashSet<Integer> conjunto) {
+            java.util.Iterator<Integer> it = conjunto.iterator();
+            int id = it.next();
+            it.remove();
+            return id;
+        }
+    }
     
     /**
      * Prueba OPT.
@@ -327,4 +1231,175 @@ public class TestPageReplacementAlgorithms {
         opt.reset();
         System.out.println(opt.getDetailedState());
     }
-}
\ No newline at end of file
+    
+    /**
+     * Corre OPT dentro de una MMU sobre una traza al azar y, en cada fallo,
+     * revisa con una búsqueda lineal que la víctima del heap sea una de las
+     * páginas que se usan más tarde.
+     */
+    private static void testOPTContraReferencia() {
+        System.out.println("--- TEST OPT CONTRA REFERENCIA ---");
+        
+        // Traza al azar: 3 procesos, ptrs numerados en orden de 'new'
+        java.util.Random rand = new java.util.Random(14);
+        List<Instruction> traza = new ArrayList<>();
+        List<int[]> vivos = new ArrayList<>(); // {ptr, pid}
+        int siguientePtr = 1;
+        for (int i = 0; i < 5000; i++) {
+            int tipo = rand.nextInt(10);
+            if (vivos.isEmpty() || tipo < 2) {
+                int pid = rand.nextInt(3) + 1;
+                traza.add(new New(pid, (rand.nextInt(4) + 1) * 3000));
+                vivos.add(new int[]{siguientePtr++, pid});
+            } else if (tipo < 9) {
+                int[] v = vivos.get(rand.nextInt(vivos.size()));
+                traza.add(new Use(v[1], v[0]));
+            } else {
+                int[] v = vivos.remove(rand.nextInt(vivos.size()));
+                traza.add(new Delete(v[1], v[0]));
+            }
+        }
+        
+        OPT opt = new OPT(traza);
+        final int[] indice = {0};
+        final int[] fallos = {0};
+        java.util.Map<Integer, List<Page>> paginasPorPtr = new java.util.HashMap<>();
+        PageReplacementAlgorithm revisor = new PageReplacementAlgorithm() {
+            public Page selectPageToReplace(List<Page> ram) {
+                Page victima = opt.selectPageToReplace(ram);
+                int maximo = -1;
+                for (Page p : ram) {
+                    maximo = Math.max(maximo, proximoUso(p));
+                }
+                if (proximoUso(victima) != maximo) {
+                    throw new AssertionError("OPT eligió una página usada en " + proximoUso(victima)
+                            + " pero hay una usada en " + maximo);
+                }
+                fallos[0]++;
+                return victima;
+            }
+            private int proximoUso(Page p) {
+                for (int i = indice[0]; i < traza.size(); i++) {
+                    if (traza.get(i) instanceof Use) {
+                        List<Page> paginas = paginasPorPtr.get(((Use) traza.get(i)).getPtr());
+                        if (paginas != null && paginas.contains(p)) return i;
+                    }
+                }
+                return Integer.MAX_VALUE;
+            }
+            public void onLoad(Page p) { opt.onLoad(p); }
+            public void onUse(Page p) { opt.onUse(p); }
+            public void onEvict(Page p) { opt.onEvict(p); }
+            public void onAllocate(int ptr, List<Page> pages) { paginasPorPtr.put(ptr, pages); opt.onAllocate(ptr, pages); }
+            public void onFree(int ptr, List<Page> pages) { paginasPorPtr.remove(ptr); opt.onFree(ptr, pages); }
+            public void onInstructionExecuted(Instruction inst) { indice[0]++; opt.onInstructionExecuted(inst); }
+            public void reset() { opt.reset(); }
+            public String getAlgorithmName() { return "OPT"; }
+            public String getDetailedState() { return opt.getDetailedState(); }
+        };
+        
+        List<modelos.Process> procesos = Arrays.asList(
+            new modelos.Process(1), new modelos.Process(2), new modelos.Process(3));
+        MMU mmu = new MMU(revisor, procesos, new ComputerConfig(16 * 4096, 4096));
+        for (Instruction inst : traza) {
+            mmu.executeInstruction(inst);
+        }
+        System.out.println("   " + fallos[0] + " fallos con la víctima más lejana ✓ (esperado: todos)");
+    }
+    
+    /**
+     * Prueba que la MMU avise los eventos a un algoritmo escrito con el
+     * método viejo updateMetadata(Page, String), y que el 'evict' llegue
+     * cuando la página todavía tiene su marco.
+     */
+    private static void testEventosMMU() {
+        System.out.println("--- TEST EVENTOS DE LA MMU ---");
+        
+        List<String> eventos = new ArrayList<>();
+        PageReplacementAlgorithm viejo = new PageReplacementAlgorithm() {
+            @Override
+            public Page selectPageToReplace(List<Page> pagesInRAM) {
+                return pagesInRAM.get(0);
+            }
+
+            @Override
+            public void updateMetadata(Page page, String event) {
+                eventos.add(event + ":" + page.getId() + "@" + page.getIndexOfPage());
+            }
+
+            @Override
+            public void reset() {
+                eventos.clear();
+            }
+
+            @Override
+            public String getAlgorithmName() {
+                return "VIEJO";
+            }
+
+            @Override
+            public String getDetailedState() {
+                return eventos.toString();
+            }
+        };
+        
+        // RAM de 2 marcos
+        ComputerConfig config = new ComputerConfig(8192, 4096);
+        modelos.Process proceso = new modelos.Process(1);
+        MMU mmu = new MMU(viejo, Arrays.asList(proceso), config);
+        
+        mmu.executeInstruction(new New(1, 8192)); // ptr 1: páginas 0 y 1
+        mmu.executeInstruction(new New(1, 100));  // ptr 2: página 2, saca a la 0
+        mmu.executeInstruction(new Use(1, 2));    // hit
+        mmu.executeInstruction(new Delete(1, 2)); // libera la página 2
+        
+        List<String> esperado = Arrays.asList(
+            "load:0@0", "load:1@1",
+            "evict:0@0", "load:2@0",
+            "use:2@0",
+            "evict:2@0");
+        System.out.println("   Eventos: " + eventos);
+        System.out.println("   (esperado: " + esperado + ")");
+        if (!eventos.equals(esperado)) {
+            throw new AssertionError("La MMU no avisó los eventos esperados: " + eventos);
+        }
+        
+        // Sin ninguno de los dos estilos: error con el nombre, no recursión sin fin
+        PageReplacementAlgorithm ninguno = new PageReplacementAlgorithm() {
+            @Override
+            public Page selectPageToReplace(List<Page> pagesInRAM) {
+                return null;
+            }
+
+            @Override
+            public void reset() {
+            }
+
+            @Override
+            public String getAlgorithmName() {
+                return "NINGUNO";
+            }
+
+            @Override
+            public String getDetailedState() {
+                return "";
+            }
+        };
+        Page pagina = new Page(0, 0, false, 0);
+        for (int intento = 0; intento < 2; intento++) {
+            try {
+                if (intento == 0) {
+                    ninguno.onLoad(pagina);
+                } else {
+                    ninguno.updateMetadata(pagina, PageReplacementAlgorithm.EVENT_USE);
+                }
+                throw new AssertionError("Un algoritmo sin onLoad/onUse ni updateMetadata debe fallar");
+            } catch (IllegalStateException e) {
+                if (!e.getMessage().contains("NINGUNO")) {
+                    throw new AssertionError("El error debe nombrar al algoritmo: " + e.getMessage());
+                }
+            }
+        }
+        System.out.println("   Sin ningún estilo: IllegalStateException ✓ (esperado: con el nombre NINGUNO)");
+    }
+}
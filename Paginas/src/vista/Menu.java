@@ -1,12 +1,22 @@
 package vista;
 
 // --- Imports ---
+import controladores.ARC;
+import controladores.Aging;
+import controladores.ClockPro;
 import controladores.Controller;
 import controladores.FIFO;
+import controladores.LFU;
+import controladores.LIRS;
+import controladores.LRU;
+import controladores.MGLRU;
 import controladores.MRU;
 import controladores.PageReplacementAlgorithm;
 import controladores.RND;
+import controladores.S3FIFO;
 import controladores.SC;
+import controladores.WSClock;
+import controladores.WorkingSet;
 
 import java.io.File;
 import javax.swing.JFileChooser;
@@ -222,7 +232,7 @@ public class Menu extends javax.swing.JFrame {
         gbc.weightx = 0;
         panelParametros.add(lblAlgoritmo, gbc);
         
-        comboAlgoritmo = new JComboBox<>(new String[] { "FIFO", "SC", "MRU", "RND" });
+        comboAlgoritmo = new JComboBox<>(new String[] { "FIFO", "SC", "MRU", "LRU", "LFU", "ARC", "CLOCK-Pro", "LIRS", "WS", "WSClock", "Aging", "MGLRU", "S3-FIFO", "RND" });
         comboAlgoritmo.setFont(FONT_LABEL);
         comboAlgoritmo.setPreferredSize(new Dimension(100, 30)); 
         gbc.gridx = 1;
@@ -387,6 +397,36 @@ public class Menu extends javax.swing.JFrame {
             case "MRU":
                 algoritmo = new MRU();
                 break;
+            case "LRU":
+                algoritmo = new LRU();
+                break;
+            case "LFU":
+                algoritmo = new LFU();
+                break;
+            case "ARC":
+                algoritmo = new ARC();
+                break;
+            case "CLOCK-Pro":
+                algoritmo = new ClockPro();
+                break;
+            case "LIRS":
+                algoritmo = new LIRS();
+                break;
+            case "WS":
+                algoritmo = new WorkingSet();
+                break;
+            case "WSClock":
+                algoritmo = new WSClock();
+                break;
+            case "Aging":
+                algoritmo = new Aging();
+                break;
+            case "MGLRU":
+                algoritmo = new MGLRU();
+                break;
+            case "S3-FIFO":
+                algoritmo = new S3FIFO();
+                break;
             case "RND":
             default:
                 algoritmo = new RND(); 
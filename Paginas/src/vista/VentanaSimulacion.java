@@ -21,7 +21,9 @@ public class VentanaSimulacion extends javax.swing.JFrame {
 
     private Controller controller;
     private Timer simulationTimer; // El Timer de refresco de la GUI
-    private static final int RAM_SIZE_KB = 400; 
+    // Con millones de marcos no se puede dibujar toda la RAM en cada tick,
+    // solo se muestran los primeros marcos.
+    private static final int MAX_FRAMES_SHOWN = 256;
     
     private Menu menuPrincipal; // Referencia para poder volver
 
@@ -122,23 +124,17 @@ public class VentanaSimulacion extends javax.swing.JFrame {
         
         long tiempoTotal = mmu.getTotalTime();
         long tiempoThrashing = mmu.getThrashingTime();
+        int ramSizeKB = mmu.getComputer().getAmountOfRamInKB();
         int ramUsadaKB = mmu.getComputer().getRealMemoryUsed();
-        int vramUsadaKB = mmu.getComputer().getVirtualMemoryUsed();
-        int fragmentacion = mmu.getComputer().getTotalRamFragmentation();
+        long vramUsadaKB = mmu.getComputer().getVirtualMemoryUsed();
+        long fragmentacion = mmu.getComputer().getTotalRamFragmentation();
         
-        double ramPct = (RAM_SIZE_KB == 0) ? 0 : (ramUsadaKB / (double) RAM_SIZE_KB) * 100.0;
-        double vramPct = (RAM_SIZE_KB == 0) ? 0 : (vramUsadaKB / (double) RAM_SIZE_KB) * 100.0;
+        double ramPct = (ramSizeKB == 0) ? 0 : (ramUsadaKB / (double) ramSizeKB) * 100.0;
+        double vramPct = (ramSizeKB == 0) ? 0 : (vramUsadaKB / (double) ramSizeKB) * 100.0;
         double thrashingPct = (tiempoTotal == 0) ? 0 : 
                               (tiempoThrashing / (double) tiempoTotal) * 100.0;
         
-        int procesosActivos = 0;
-        if (mmu.getProcessMap() != null) {
-            for (modelos.Process p : mmu.getProcessMap().values()) {
-                if (p.isActive()) {
-                    procesosActivos++;
-                }
-            }
-        }
+        int procesosActivos = mmu.getActiveProcessCount();
 
         tiempo.setText(String.format("%d s", tiempoTotal));
         ram.setText(String.format("%d KB (%.1f%%)", ramUsadaKB, ramPct));
@@ -165,15 +161,19 @@ public class VentanaSimulacion extends javax.swing.JFrame {
             return;
         }
         
-        for (int i = 0; i < ram.size(); i++) {
+        int shown = Math.min(ram.size(), MAX_FRAMES_SHOWN);
+        for (int i = 0; i < shown; i++) {
             Page page = ram.get(i);
             sb.append(String.format("Frame %02d: ", i));
             if (page == null) {
                 sb.append("[ VACÍO ]\n");
             } else {
-                sb.append(String.format("[ PID: %d ]\n", page.getId()));
+                sb.append(String.format("[ PID: %d | Pág: %d ]\n", page.getOwnerPid(), page.getId()));
             }
         }
+        if (ram.size() > shown) {
+            sb.append(String.format("... (%d marcos más)\n", ram.size() - shown));
+        }
         textArea.setText(sb.toString());
         textArea.setCaretPosition(0); 
     }